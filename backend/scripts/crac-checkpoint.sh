@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Produces a warmed CRaC checkpoint of the backend.
+#
+# Starts the jar on a CRaC-enabled JDK (Azul Zulu or BellSoft Liberica "CRaC"
+# builds), drives read traffic at it with the load-test driver until the JIT
+# has compiled the hot paths, then checkpoints the process. Before the image
+# is written, Spring stops every lifecycle bean: the web server, the
+# scheduler, the Hikari pool (connections closed), the cluster listener, and
+# the JWT keys and rate-limit buckets; all of them come back on restore.
+#
+# Expects the database the image will run against to be reachable and seeded
+# with LoadTestDataGenerator's users (see README). Restore with:
+#   java -XX:CRaCRestoreFrom=<checkpoint dir>
+#
+# Environment:
+#   JAR               jar to run (default target/taskmanager-backend-1.0.0.jar)
+#   CHECKPOINT_DIR    where the image is written (default target/crac)
+#   WARMUP_SECONDS    length of the warm-up run (default 60)
+#   WARMUP_THREADS    load-test workers; stay below the per-IP login limit (default 16)
+#   JAVA_OPTS         extra JVM options for the checkpointed process
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAR=${JAR:-target/taskmanager-backend-1.0.0.jar}
+CHECKPOINT_DIR=${CHECKPOINT_DIR:-target/crac}
+WARMUP_SECONDS=${WARMUP_SECONDS:-60}
+WARMUP_THREADS=${WARMUP_THREADS:-16}
+PORT=${SERVER_PORT:-8081}
+HEALTH_URL="http://localhost:${PORT}/actuator/health"
+
+if ! java -XX:CRaCCheckpointTo=/dev/null -version >/dev/null 2>&1; then
+    echo "The java on PATH does not support CRaC; use a CRaC-enabled JDK 17+" >&2
+    exit 1
+fi
+
+rm -rf "$CHECKPOINT_DIR"
+mkdir -p "$CHECKPOINT_DIR"
+
+# shellcheck disable=SC2086
+java -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" ${JAVA_OPTS:-} -jar "$JAR" > "$CHECKPOINT_DIR/checkpoint.log" 2>&1 &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true' EXIT
+
+echo "Waiting for $HEALTH_URL (pid $PID)"
+until curl -sf "$HEALTH_URL" > /dev/null; do
+    if ! kill -0 "$PID" 2>/dev/null; then
+        echo "Backend exited during startup, see $CHECKPOINT_DIR/checkpoint.log" >&2
+        exit 1
+    fi
+    sleep 0.5
+done
+
+# Reads only, so warming up leaves the data as it was
+echo "Warming up for ${WARMUP_SECONDS}s"
+mvn -B -q -Ploadtest test-compile exec:java \
+    -Dloadtest.args="--base-url http://localhost:${PORT} --threads ${WARMUP_THREADS} --warmup-seconds 0 --duration-seconds ${WARMUP_SECONDS} --scenarios list,search,progress"
+
+echo "Checkpointing to $CHECKPOINT_DIR"
+jcmd "$PID" JDK.checkpoint
+# The process exits once the image is written
+wait "$PID" || true
+trap - EXIT
+
+if ! ls "$CHECKPOINT_DIR"/*.img > /dev/null 2>&1; then
+    echo "No checkpoint image written, see $CHECKPOINT_DIR/checkpoint.log" >&2
+    exit 1
+fi
+echo "Checkpoint written. Restore with: java -XX:CRaCRestoreFrom=$CHECKPOINT_DIR"
@@ -0,0 +1,58 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.repository.RevokedTokenRepository;
+import com.taskmanager.security.JwtKeyProvider;
+import com.taskmanager.security.JwtUtil;
+import com.taskmanager.security.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Shared setup for benchmarks that exercise Spring components outside of an
+ * application context.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "mySecretKey123456789012345678901234567890";
+    static final long JWT_ACCESS_EXPIRATION = 900000L;
+    static final List<String> ROLES = List.of("ROLE_USER");
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        return jwtUtil(JwtKeyProvider.HS256);
+    }
+
+    /**
+     * Builds a {@link JwtUtil} for the given algorithm. Asymmetric key pairs
+     * are generated into a throwaway directory.
+     */
+    static JwtUtil jwtUtil(String algorithm) {
+        JwtKeyProvider keyProvider;
+        try {
+            String keyDirectory = Files.createTempDirectory("jwt-keys").toString();
+            keyProvider = new JwtKeyProvider(algorithm, JWT_SECRET, keyDirectory, "bench", true, 30000);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        keyProvider.load();
+
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "keyProvider", keyProvider);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", JWT_ACCESS_EXPIRATION);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static TokenRevocationService tokenRevocationService() {
+        RevokedTokenRepository repository = Mockito.mock(RevokedTokenRepository.class);
+        return new TokenRevocationService(repository, new SimpleMeterRegistry(), 100000, 0.001, 30000);
+    }
+}
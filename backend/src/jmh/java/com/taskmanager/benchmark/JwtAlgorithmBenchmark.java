@@ -0,0 +1,43 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access-token verification throughput per signing algorithm. HS256 needs the
+ * shared secret on every node; the asymmetric algorithms only need the public
+ * key, resolved from the per-{@code kid} cache on each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAlgorithmBenchmark {
+
+    @Param({"HS256", "RS256", "ES256", "EdDSA"})
+    private String algorithm;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(algorithm);
+        token = jwtUtil.generateAccessToken(1L, "benchmark@example.com", BenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtUtil.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateAccessToken(1L, "benchmark@example.com", BenchmarkFixtures.ROLES);
+    }
+}
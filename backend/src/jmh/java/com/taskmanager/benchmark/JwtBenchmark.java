@@ -0,0 +1,42 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures token issuing on login and token validation, which runs on every
+ * authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String EMAIL = "benchmark@example.com";
+    private static final Long USER_ID = 1L;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        token = jwtUtil.generateAccessToken(USER_ID, EMAIL, BenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateAccessToken(USER_ID, EMAIL, BenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        return jwtUtil.parseAccessToken(token);
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.security.JwtFilter;
+import com.taskmanager.security.JwtUtil;
+import com.taskmanager.security.TokenRevocationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a bearer-token request through {@link JwtFilter} end to end. The
+ * principal is built from the token claims, so no user lookup is involved;
+ * the revocation check is an in-memory bloom filter probe.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String EMAIL = "benchmark@example.com";
+
+    private JwtFilter jwtFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+
+        jwtFilter = new JwtFilter();
+        ReflectionTestUtils.setField(jwtFilter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(jwtFilter, "tokenRevocationService", BenchmarkFixtures.tokenRevocationService());
+
+        authorizationHeader = "Bearer " + jwtUtil.generateAccessToken(1L, EMAIL, BenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtFilter.doFilter(request, response, new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.mapper.ProjectMapper;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of mapping entity lists to response DTOs, which runs on
+ * every list and paginated endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private final ProjectMapper projectMapper = new ProjectMapper();
+
+    private List<Task> tasks;
+    private List<Project> projects;
+
+    @Setup
+    public void setUp() {
+        Project owner = new Project();
+        owner.setId(1L);
+        owner.setTitle("Benchmark Project");
+
+        tasks = new ArrayList<>(size);
+        projects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription("Description for task " + i);
+            task.setDueDate(LocalDate.now().plusDays(i % 30));
+            task.setCompleted(i % 3 == 0);
+            task.setProject(owner);
+            tasks.add(task);
+
+            Project project = new Project();
+            project.setId((long) i);
+            project.setTitle("Project " + i);
+            project.setDescription("Description for project " + i);
+            projects.add(project);
+        }
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskToResponseList() {
+        return taskMapper.toResponseList(tasks);
+    }
+
+    @Benchmark
+    public List<ProjectResponse> projectToResponseList() {
+        return projectMapper.toResponseList(projects);
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.security.PasswordEncoders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password verification throughput per encoder policy. The benchmark runs on
+ * a single thread, so the score reads directly as logins per second per core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "password123";
+
+    /** {@code <encoder>:<cost>}; cost is the BCrypt strength or PBKDF2 iteration count. */
+    @Param({"bcrypt:8", "bcrypt:10", "bcrypt:12", "pbkdf2:310000"})
+    private String policy;
+
+    private PasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        String[] parts = policy.split(":");
+        int cost = Integer.parseInt(parts[1]);
+        boolean bcrypt = PasswordEncoders.BCRYPT.equals(parts[0]);
+        encoder = PasswordEncoders.create(parts[0], bcrypt ? cost : 10, bcrypt ? 310000 : cost);
+        encodedPassword = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches(PASSWORD, encodedPassword);
+    }
+}
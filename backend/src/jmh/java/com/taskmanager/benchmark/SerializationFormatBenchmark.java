@@ -0,0 +1,134 @@
+package com.taskmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import com.taskmanager.config.ProtobufResponseConverter;
+import com.taskmanager.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes and decodes a page of 1000 tasks in each response format the API
+ * negotiates. Bytes on the wire per format are printed once per trial.
+ * Protobuf decoding reads the fields into {@link TaskResponse}s as a
+ * generated client would; the Jackson formats decode to a tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Param({"json", "json-gzip", "cbor", "smile", "protobuf"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private Page<TaskResponse> page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            default -> new ObjectMapper();
+        };
+        // As configured by Spring Boot
+        mapper.findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<TaskResponse> tasks = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            tasks.add(new TaskResponse((long) i, "Task " + i, "Description for task " + i,
+                    LocalDate.now().plusDays(i % 30), i % 3 == 0, 1L));
+        }
+        page = new PageImpl<>(tasks, PageRequest.of(0, PAGE_SIZE), 25 * PAGE_SIZE);
+
+        encoded = encode();
+        System.out.printf("%n%s: %d bytes for %d tasks%n", format, encoded.length, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        switch (format) {
+            case "json-gzip" -> {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                    mapper.writeValue(gzip, page);
+                }
+                return buffer.toByteArray();
+            }
+            case "protobuf" -> {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                ProtobufResponseConverter.write(page, buffer);
+                return buffer.toByteArray();
+            }
+            default -> {
+                return mapper.writeValueAsBytes(page);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return switch (format) {
+            case "json-gzip" -> {
+                try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+                    yield mapper.readTree(gzip);
+                }
+            }
+            case "protobuf" -> decodeProtobufPage(encoded);
+            default -> mapper.readTree(encoded);
+        };
+    }
+
+    private static List<TaskResponse> decodeProtobufPage(byte[] bytes) throws IOException {
+        List<TaskResponse> tasks = new ArrayList<>(PAGE_SIZE);
+        CodedInputStream in = CodedInputStream.newInstance(bytes);
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) == 1) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                tasks.add(decodeProtobufTask(in));
+                in.popLimit(limit);
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return tasks;
+    }
+
+    private static TaskResponse decodeProtobufTask(CodedInputStream in) throws IOException {
+        TaskResponse task = new TaskResponse();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> task.setId(in.readInt64());
+                case 2 -> task.setTitle(in.readString());
+                case 3 -> task.setDescription(in.readString());
+                case 4 -> task.setDueDate(LocalDate.parse(in.readString()));
+                case 5 -> task.setCompleted(in.readBool());
+                case 6 -> task.setProjectId(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return task;
+    }
+}
@@ -0,0 +1,121 @@
+package com.taskmanager.benchmark;
+
+import com.taskmanager.TaskManagerApplication;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TaskService#getProjectTasksPaginated} against an embedded H2
+ * database seeded with a single large project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final String EMAIL = "benchmark@example.com";
+    private static final int TASK_COUNT = 5000;
+
+    @Param({"none", "title", "completed", "title+completed", "due+completed"})
+    private String filter;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long userId;
+    private Long projectId;
+    private Pageable pageable;
+    private TaskFilter taskFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+
+        taskService = context.getBean(TaskService.class);
+        Project project = seed(context);
+        userId = project.getUser().getId();
+        projectId = project.getId();
+        pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
+        taskFilter = new TaskFilter();
+        taskFilter.setTitle(filter.contains("title") ? "task 1" : null);
+        taskFilter.setCompleted(filter.contains("completed") ? Boolean.TRUE : null);
+        if (filter.contains("due")) {
+            taskFilter.setDueFrom(LocalDate.now());
+            taskFilter.setDueTo(LocalDate.now().plusDays(14));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> getProjectTasksPaginated() {
+        return taskService.getProjectTasksPaginated(userId, projectId, pageable, taskFilter);
+    }
+
+    private static Project seed(ConfigurableApplicationContext context) {
+        User user = new User();
+        user.setEmail(EMAIL);
+        user.setPassword("unused");
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        user = context.getBean(UserRepository.class).save(user);
+
+        Project project = new Project();
+        project.setTitle("Benchmark Project");
+        project.setUser(user);
+        project = context.getBean(ProjectRepository.class).save(project);
+
+        List<Task> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Description for task " + i);
+            task.setDueDate(LocalDate.now().plusDays(i % 90));
+            task.setCompleted(i % 3 == 0);
+            task.setProject(project);
+            tasks.add(task);
+        }
+        context.getBean(TaskRepository.class).saveAll(tasks);
+
+        return project;
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of latency samples in microseconds. Each worker thread owns
+ * its own instance; buffers are merged once the run is over, so recording
+ * never contends.
+ */
+final class LatencySamples {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long micros) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = micros;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void merge(LatencySamples other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, size + other.size));
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the given percentiles (0-100) in microseconds. Sorts the buffer
+     * in place, so call it only once recording has finished.
+     */
+    long[] percentiles(double... percentiles) {
+        Arrays.sort(samples, 0, size);
+        long[] result = new long[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (size == 0) {
+                continue;
+            }
+            int index = (int) Math.ceil(percentiles[i] / 100.0 * size) - 1;
+            result[i] = samples[Math.max(0, Math.min(index, size - 1))];
+        }
+        return result;
+    }
+}
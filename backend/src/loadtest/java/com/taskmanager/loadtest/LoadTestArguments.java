@@ -0,0 +1,46 @@
+package com.taskmanager.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal {@code --name value} / {@code --name=value} argument parser for the
+ * load test entry points.
+ */
+final class LoadTestArguments {
+
+    private final Map<String, String> values;
+
+    private LoadTestArguments(Map<String, String> values) {
+        this.values = values;
+    }
+
+    static LoadTestArguments parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            String name = arg.substring(2);
+            int separator = name.indexOf('=');
+            if (separator >= 0) {
+                values.put(name.substring(0, separator), name.substring(separator + 1));
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                values.put(name, args[++i]);
+            } else {
+                values.put(name, "true");
+            }
+        }
+        return new LoadTestArguments(values);
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
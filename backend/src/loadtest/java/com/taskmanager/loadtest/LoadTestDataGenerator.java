@@ -0,0 +1,133 @@
+package com.taskmanager.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Seeds a PostgreSQL database with a large, deterministic data set for load
+ * testing. Rows are generated server side with {@code generate_series}, so
+ * millions of tasks can be inserted without streaming them over JDBC.
+ *
+ * <p>The schema must already exist (start the backend once against the target
+ * database). Re-running the generator only fills in what is missing: users are
+ * inserted with {@code ON CONFLICT DO NOTHING} and projects/tasks are only
+ * generated for seeded users and projects that have none yet.
+ *
+ * <p>Every seeded user is {@code loadtest-user-<n>@example.com} with the
+ * password {@value #PASSWORD}.
+ */
+public class LoadTestDataGenerator {
+
+    static final String EMAIL_PREFIX = "loadtest-user-";
+    static final String EMAIL_DOMAIN = "@example.com";
+    static final String PASSWORD = "password123";
+
+    private static final int PROJECT_CHUNK = 500;
+
+    public static void main(String[] args) throws SQLException {
+        LoadTestArguments arguments = LoadTestArguments.parse(args);
+        String jdbcUrl = arguments.get("jdbc-url", "jdbc:postgresql://localhost:5432/taskmanager");
+        String username = arguments.get("db-user", "taskmanager");
+        String password = arguments.get("db-password", "password");
+        int users = arguments.getInt("users", 100);
+        int projectsPerUser = arguments.getInt("projects-per-user", 50);
+        int tasksPerProject = arguments.getInt("tasks-per-project", 200);
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            connection.setAutoCommit(false);
+
+            long started = System.nanoTime();
+            int insertedUsers = seedUsers(connection, users);
+            int insertedProjects = seedProjects(connection, projectsPerUser);
+            long insertedTasks = seedTasks(connection, tasksPerProject);
+            analyze(connection);
+
+            System.out.printf("Seeded %d users, %d projects and %d tasks in %.1fs%n",
+                    insertedUsers, insertedProjects, insertedTasks, (System.nanoTime() - started) / 1e9);
+        }
+    }
+
+    private static int seedUsers(Connection connection, int users) throws SQLException {
+        // One hash shared by all seeded users; hashing per row would dominate seeding time
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (email, password, first_name, last_name) " +
+                        "SELECT ? || g || ?, ?, 'Load', 'User ' || g FROM generate_series(1, ?) g " +
+                        "ON CONFLICT (email) DO NOTHING")) {
+            statement.setString(1, EMAIL_PREFIX);
+            statement.setString(2, EMAIL_DOMAIN);
+            statement.setString(3, passwordHash);
+            statement.setInt(4, users);
+            int inserted = statement.executeUpdate();
+            connection.commit();
+            return inserted;
+        }
+    }
+
+    private static int seedProjects(Connection connection, int projectsPerUser) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO projects (title, description, user_id) " +
+                        "SELECT 'Project ' || g, 'Load test project ' || g, u.id " +
+                        "FROM users u CROSS JOIN generate_series(1, ?) g " +
+                        "WHERE u.email LIKE ? " +
+                        "AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.user_id = u.id)")) {
+            statement.setInt(1, projectsPerUser);
+            statement.setString(2, EMAIL_PREFIX + "%");
+            int inserted = statement.executeUpdate();
+            connection.commit();
+            return inserted;
+        }
+    }
+
+    private static long seedTasks(Connection connection, int tasksPerProject) throws SQLException {
+        long minId;
+        long maxId;
+        try (PreparedStatement bounds = connection.prepareStatement(
+                "SELECT COALESCE(MIN(p.id), 0), COALESCE(MAX(p.id), -1) FROM projects p " +
+                        "JOIN users u ON u.id = p.user_id WHERE u.email LIKE ?")) {
+            bounds.setString(1, EMAIL_PREFIX + "%");
+            try (ResultSet resultSet = bounds.executeQuery()) {
+                resultSet.next();
+                minId = resultSet.getLong(1);
+                maxId = resultSet.getLong(2);
+            }
+        }
+
+        long inserted = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO tasks (title, description, due_date, completed, project_id) " +
+                        "SELECT 'Task ' || g, 'Load test task ' || g || ' of project ' || p.id, " +
+                        "CURRENT_DATE + ((g + p.id) % 120)::int - 30, (g + p.id) % 3 = 0, p.id " +
+                        "FROM projects p JOIN users u ON u.id = p.user_id " +
+                        "CROSS JOIN generate_series(1, ?) g " +
+                        "WHERE p.id BETWEEN ? AND ? AND u.email LIKE ? " +
+                        "AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.project_id = p.id)")) {
+            for (long from = minId; from <= maxId; from += PROJECT_CHUNK) {
+                statement.setInt(1, tasksPerProject);
+                statement.setLong(2, from);
+                statement.setLong(3, Math.min(from + PROJECT_CHUNK - 1, maxId));
+                statement.setString(4, EMAIL_PREFIX + "%");
+                inserted += statement.executeUpdate();
+                connection.commit();
+                System.out.printf("  tasks: %d inserted (projects up to id %d)%n", inserted, from + PROJECT_CHUNK - 1);
+            }
+        }
+        return inserted;
+    }
+
+    private static void analyze(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users");
+            statement.execute("ANALYZE projects");
+            statement.execute("ANALYZE tasks");
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load driver for the backend. Each worker thread logs in as
+ * one of the users seeded by {@link LoadTestDataGenerator} and then runs the
+ * selected scenarios in a random mix until the run ends, recording latency per
+ * scenario. Samples taken during the warm-up period are discarded.
+ *
+ * <p>With {@code --compare-url} the read scenarios are run twice with the same
+ * seed, first against {@code --base-url} and then against the compare URL
+ * (typically the reactive gateway), and the two are reported side by side.
+ * Tokens for the second run are still issued by {@code --base-url}.
+ *
+ * <p>Example:
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java \
+ *     -Dloadtest.args="--base-url http://localhost:8081 --threads 64 --duration-seconds 120"
+ * mvn -Ploadtest test-compile exec:java \
+ *     -Dloadtest.args="--base-url http://localhost:8081 --compare-url http://localhost:8082 --threads 256"
+ * </pre>
+ */
+public class LoadTestDriver {
+
+    enum Scenario { LOGIN, LIST, SEARCH, TOGGLE, PROGRESS }
+
+    private static final List<Scenario> READ_SCENARIOS = List.of(Scenario.LIST, Scenario.SEARCH, Scenario.PROGRESS);
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 100};
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String authUrl;
+    private final int users;
+    private final List<Scenario> scenarios;
+    private final long warmupEndNanos;
+    private final long endNanos;
+
+    LoadTestDriver(String baseUrl, String authUrl, int users, List<Scenario> scenarios,
+                   long warmupEndNanos, long endNanos) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.authUrl = authUrl;
+        this.users = users;
+        this.scenarios = scenarios;
+        this.warmupEndNanos = warmupEndNanos;
+        this.endNanos = endNanos;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestArguments arguments = LoadTestArguments.parse(args);
+        String baseUrl = arguments.get("base-url", "http://localhost:8081");
+        int users = arguments.getInt("users", 100);
+        int threads = arguments.getInt("threads", 32);
+        int warmupSeconds = arguments.getInt("warmup-seconds", 10);
+        int durationSeconds = arguments.getInt("duration-seconds", 60);
+        long seed = arguments.getInt("seed", 42);
+        String report = arguments.get("report", null);
+        String compareUrl = arguments.get("compare-url", null);
+        List<Scenario> scenarios = parseScenarios(arguments.get("scenarios",
+                compareUrl != null ? "list,search,progress" : "login,list,search,toggle,progress"));
+
+        if (compareUrl == null) {
+            Map<Scenario, LatencySamples> results = drive(baseUrl, baseUrl, users, scenarios,
+                    threads, warmupSeconds, durationSeconds, seed);
+            printReport(results, durationSeconds);
+            if (report != null) {
+                writeReport(toJson(results, durationSeconds), new File(report));
+            }
+            return;
+        }
+
+        // Only reads are served by both stacks; login and writes stay on the base URL
+        if (!READ_SCENARIOS.containsAll(scenarios)) {
+            throw new IllegalArgumentException("--compare-url supports only the scenarios " + READ_SCENARIOS);
+        }
+        Map<Scenario, LatencySamples> baseline = drive(baseUrl, baseUrl, users, scenarios,
+                threads, warmupSeconds, durationSeconds, seed);
+        Map<Scenario, LatencySamples> candidate = drive(compareUrl, baseUrl, users, scenarios,
+                threads, warmupSeconds, durationSeconds, seed);
+
+        System.out.printf("%nBaseline %s%n", baseUrl);
+        printReport(baseline, durationSeconds);
+        System.out.printf("%nCandidate %s%n", compareUrl);
+        printReport(candidate, durationSeconds);
+        printComparison(baseline, candidate);
+        if (report != null) {
+            ObjectNode comparison = MAPPER.createObjectNode();
+            comparison.putObject("baseline").put("url", baseUrl).set("results", toJson(baseline, durationSeconds));
+            comparison.putObject("candidate").put("url", compareUrl).set("results", toJson(candidate, durationSeconds));
+            writeReport(comparison, new File(report));
+        }
+    }
+
+    private static Map<Scenario, LatencySamples> drive(String baseUrl, String authUrl, int users,
+                                                       List<Scenario> scenarios, int threads, int warmupSeconds,
+                                                       int durationSeconds, long seed) throws Exception {
+        long start = System.nanoTime();
+        long warmupEnd = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(durationSeconds).toNanos();
+        LoadTestDriver driver = new LoadTestDriver(baseUrl, authUrl, users, scenarios, warmupEnd, end);
+
+        System.out.printf("Driving %s with %d threads for %ds (+%ds warm-up), scenarios %s%n",
+                baseUrl, threads, durationSeconds, warmupSeconds, scenarios);
+        return driver.run(threads, seed);
+    }
+
+    Map<Scenario, LatencySamples> run(int threads, long seed) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Map<Scenario, LatencySamples>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Worker worker = new Worker(i % users + 1, new Random(seed + i));
+                futures.add(executor.submit(worker::run));
+            }
+
+            Map<Scenario, LatencySamples> merged = new EnumMap<>(Scenario.class);
+            for (Scenario scenario : scenarios) {
+                merged.put(scenario, new LatencySamples());
+            }
+            for (Future<Map<Scenario, LatencySamples>> future : futures) {
+                future.get().forEach((scenario, samples) -> merged.get(scenario).merge(samples));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private final class Worker {
+
+        private final int userNumber;
+        private final Random random;
+        private final Map<Scenario, LatencySamples> samples = new EnumMap<>(Scenario.class);
+        private final Map<Long, List<Long>> taskIdsByProject = new HashMap<>();
+        private List<Long> projectIds = List.of();
+        private String token;
+
+        Worker(int userNumber, Random random) {
+            this.userNumber = userNumber;
+            this.random = random;
+            for (Scenario scenario : scenarios) {
+                samples.put(scenario, new LatencySamples());
+            }
+        }
+
+        Map<Scenario, LatencySamples> run() {
+            while (System.nanoTime() < endNanos) {
+                Scenario scenario = scenarios.get(random.nextInt(scenarios.size()));
+                long started = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = execute(scenario);
+                } catch (IOException e) {
+                    ok = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                long finished = System.nanoTime();
+                if (started >= warmupEndNanos) {
+                    LatencySamples scenarioSamples = samples.get(scenario);
+                    if (ok) {
+                        scenarioSamples.record((finished - started) / 1000);
+                    } else {
+                        scenarioSamples.recordError();
+                    }
+                }
+            }
+            return samples;
+        }
+
+        private boolean execute(Scenario scenario) throws IOException, InterruptedException {
+            if (token == null && scenario != Scenario.LOGIN && !login()) {
+                return false;
+            }
+            switch (scenario) {
+                case LOGIN:
+                    return login();
+                case LIST:
+                    return listProjects();
+                case SEARCH:
+                    return projectIds.isEmpty() ? listProjects() : searchTasks(randomProject());
+                case TOGGLE:
+                    return toggleTask();
+                case PROGRESS:
+                    return projectIds.isEmpty() ? listProjects() : progress(randomProject());
+                default:
+                    throw new IllegalStateException("Unknown scenario " + scenario);
+            }
+        }
+
+        private boolean login() throws IOException, InterruptedException {
+            ObjectNode body = MAPPER.createObjectNode()
+                    .put("email", LoadTestDataGenerator.EMAIL_PREFIX + userNumber + LoadTestDataGenerator.EMAIL_DOMAIN)
+                    .put("password", LoadTestDataGenerator.PASSWORD);
+            HttpResponse<byte[]> response = send(HttpRequest.newBuilder(URI.create(authUrl + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body))));
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            token = MAPPER.readTree(response.body()).path("token").asText(null);
+            return token != null;
+        }
+
+        private boolean listProjects() throws IOException, InterruptedException {
+            HttpResponse<byte[]> response = get("/projects");
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode project : MAPPER.readTree(response.body())) {
+                ids.add(project.path("id").asLong());
+            }
+            projectIds = ids;
+            return true;
+        }
+
+        private boolean searchTasks(Long projectId) throws IOException, InterruptedException {
+            StringBuilder path = new StringBuilder("/projects/").append(projectId)
+                    .append("/tasks/paginated?size=20&page=").append(random.nextInt(5));
+            if (random.nextBoolean()) {
+                path.append("&title=").append(URLEncoder.encode("Task " + (1 + random.nextInt(9)), StandardCharsets.UTF_8));
+            }
+            if (random.nextBoolean()) {
+                path.append("&completed=").append(random.nextBoolean());
+            }
+            HttpResponse<byte[]> response = get(path.toString());
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode task : MAPPER.readTree(response.body()).path("content")) {
+                ids.add(task.path("id").asLong());
+            }
+            if (!ids.isEmpty()) {
+                taskIdsByProject.put(projectId, ids);
+            }
+            return true;
+        }
+
+        private boolean toggleTask() throws IOException, InterruptedException {
+            if (taskIdsByProject.isEmpty()) {
+                return projectIds.isEmpty() ? listProjects() : searchTasks(randomProject());
+            }
+            List<List<Long>> known = new ArrayList<>(taskIdsByProject.values());
+            List<Long> taskIds = known.get(random.nextInt(known.size()));
+            Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+            HttpResponse<byte[]> response = send(authorized("/tasks/" + taskId + "/toggle")
+                    .PUT(HttpRequest.BodyPublishers.noBody()));
+            return response.statusCode() == 200;
+        }
+
+        private boolean progress(Long projectId) throws IOException, InterruptedException {
+            return get("/projects/" + projectId + "/progress").statusCode() == 200;
+        }
+
+        private Long randomProject() {
+            return projectIds.get(random.nextInt(projectIds.size()));
+        }
+
+        private HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+            return send(authorized(path).GET());
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token);
+        }
+
+        private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 401 || response.statusCode() == 403) {
+                // Expired or rejected token: log in again on the next iteration
+                token = null;
+            }
+            return response;
+        }
+    }
+
+    private static List<Scenario> parseScenarios(String value) {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : value.split(",")) {
+            scenarios.add(Scenario.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+        }
+        return scenarios;
+    }
+
+    private static void printReport(Map<Scenario, LatencySamples> results, int durationSeconds) {
+        System.out.printf("%n%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((scenario, samples) -> {
+            long[] percentiles = samples.percentiles(PERCENTILES);
+            System.out.printf("%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    scenario.name().toLowerCase(Locale.ROOT),
+                    samples.count(),
+                    samples.errors(),
+                    (double) samples.count() / durationSeconds,
+                    percentiles[0] / 1000.0,
+                    percentiles[1] / 1000.0,
+                    percentiles[2] / 1000.0,
+                    percentiles[3] / 1000.0,
+                    percentiles[4] / 1000.0);
+        });
+    }
+
+    private static void printComparison(Map<Scenario, LatencySamples> baseline,
+                                        Map<Scenario, LatencySamples> candidate) {
+        System.out.printf("%n%-10s %14s %14s %14s%n", "scenario", "req/s ratio", "p50 ratio", "p99 ratio");
+        baseline.forEach((scenario, base) -> {
+            LatencySamples other = candidate.get(scenario);
+            long[] basePercentiles = base.percentiles(PERCENTILES);
+            long[] otherPercentiles = other.percentiles(PERCENTILES);
+            System.out.printf("%-10s %14s %14s %14s%n",
+                    scenario.name().toLowerCase(Locale.ROOT),
+                    ratio(other.count(), base.count()),
+                    ratio(otherPercentiles[0], basePercentiles[0]),
+                    ratio(otherPercentiles[2], basePercentiles[2]));
+        });
+    }
+
+    private static String ratio(long candidate, long baseline) {
+        return baseline == 0 ? "n/a" : String.format(Locale.ROOT, "%.2fx", (double) candidate / baseline);
+    }
+
+    private static ArrayNode toJson(Map<Scenario, LatencySamples> results, int durationSeconds) {
+        ArrayNode report = MAPPER.createArrayNode();
+        results.forEach((scenario, samples) -> {
+            long[] percentiles = samples.percentiles(PERCENTILES);
+            ObjectNode entry = report.addObject()
+                    .put("scenario", scenario.name().toLowerCase(Locale.ROOT))
+                    .put("requests", samples.count())
+                    .put("errors", samples.errors())
+                    .put("throughputPerSecond", (double) samples.count() / durationSeconds);
+            ObjectNode latency = entry.putObject("latencyMicros");
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                latency.put(PERCENTILES[i] == 100 ? "max" : "p" + formatPercentile(PERCENTILES[i]), percentiles[i]);
+            }
+        });
+        return report;
+    }
+
+    private static void writeReport(JsonNode report, File file) throws IOException {
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, report);
+        System.out.println("Report written to " + file.getAbsolutePath());
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace('.', '_');
+    }
+}
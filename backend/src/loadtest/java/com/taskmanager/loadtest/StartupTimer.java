@@ -0,0 +1,118 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time to first request: launches the backend as a fresh process,
+ * polls {@code --url} until it answers 200 and records the wall-clock time
+ * from process start, then stops the process. Repeated {@code --runs} times;
+ * every run is a cold JVM, so JIT warm-up, class loading, CDS and AOT all
+ * show up in the number. The default URL is the liveness probe, which
+ * answers as soon as the context is up; readiness also waits for the JIT
+ * warm-up run.
+ *
+ * <p>{@code --command} is the launch command, split on spaces. Example,
+ * comparing the plain Boot jar with the fast-startup build:
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.mainClass=com.taskmanager.loadtest.StartupTimer \
+ *     -Dloadtest.args="--command 'java -jar target/taskmanager-backend-1.0.0-exec.jar' --report target/startup-baseline.json"
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.mainClass=com.taskmanager.loadtest.StartupTimer \
+ *     -Dloadtest.args="--command 'java -XX:SharedArchiveFile=$PWD/target/taskmanager.jsa -Dspring.aot.enabled=true -jar $PWD/target/taskmanager-backend-1.0.0.jar' --report target/startup-fast.json"
+ * </pre>
+ */
+public class StartupTimer {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long POLL_INTERVAL_MS = 20;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestArguments arguments = LoadTestArguments.parse(args);
+        String command = arguments.get("command", null);
+        if (command == null) {
+            throw new IllegalArgumentException("--command is required");
+        }
+        URI url = URI.create(arguments.get("url", "http://localhost:8081/actuator/health/liveness"));
+        int runs = arguments.getInt("runs", 5);
+        Duration timeout = Duration.ofSeconds(arguments.getInt("timeout-seconds", 120));
+        String report = arguments.get("report", null);
+
+        List<String> launch = List.of(command.trim().split("\\s+"));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(500))
+                .build();
+
+        long[] millis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            millis[run] = timeOneStart(launch, client, url, timeout);
+            System.out.printf("Run %d: first response after %d ms%n", run + 1, millis[run]);
+        }
+
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        long median = sorted[runs / 2];
+        System.out.printf("%nTime to first request over %d runs: min %d ms, median %d ms, max %d ms%n",
+                runs, sorted[0], median, sorted[runs - 1]);
+
+        if (report != null) {
+            ObjectNode json = MAPPER.createObjectNode();
+            json.put("command", command);
+            json.put("url", url.toString());
+            json.put("minMs", sorted[0]);
+            json.put("medianMs", median);
+            json.put("maxMs", sorted[runs - 1]);
+            ArrayNode samples = json.putArray("runsMs");
+            Arrays.stream(millis).forEach(samples::add);
+            File file = new File(report);
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, json);
+            System.out.println("Report written to " + file.getAbsolutePath());
+        }
+    }
+
+    private static long timeOneStart(List<String> launch, HttpClient client, URI url, Duration timeout)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(2)).GET().build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(launch)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Process exited with code " + process.exitValue()
+                            + " before answering " + url);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+            throw new IllegalStateException("No 200 from " + url + " within " + timeout.toSeconds() + "s");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
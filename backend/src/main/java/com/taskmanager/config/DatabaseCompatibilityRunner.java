@@ -2,51 +2,130 @@ package com.taskmanager.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Brings older databases up to what the entities expect: snake_case name
+ * columns, the default admin user and indexes JPA cannot declare.
+ *
+ * <p>The steps run once per schema version, not on every start. The version
+ * a database has been migrated to is kept in {@code schema_state}; a start
+ * against a current database costs one primary-key lookup. Otherwise the
+ * first node takes a transaction-scoped advisory lock, re-checks the
+ * version, migrates and records it; nodes starting alongside it wait on the
+ * lock and then find nothing left to do. Bump {@link #SCHEMA_VERSION} when a
+ * step is added or changed.
+ */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // before WarmupRunner queries the schema
 public class DatabaseCompatibilityRunner implements ApplicationRunner {
 
     private static final Logger log = LoggerFactory.getLogger(DatabaseCompatibilityRunner.class);
+
+    static final int SCHEMA_VERSION = 1;
+    // Arbitrary application-wide key for pg_advisory_xact_lock
+    private static final long MIGRATION_LOCK_KEY = 7_301_440_046L;
+
     private static final String DEFAULT_ADMIN_EMAIL = "admin@test.com";
     // BCrypt hash for "password123"
     private static final String DEFAULT_ADMIN_PASSWORD_HASH =
             "$2a$10$8.UnVuG9HHgffUDAlk8qfOuVGkqRzgVymGe07xd00DMxs.AQubh4a";
 
     private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean postgres;
 
-    public DatabaseCompatibilityRunner(JdbcTemplate jdbcTemplate) {
+    public DatabaseCompatibilityRunner(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.datasource.url:}") String url) {
         this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // The steps and the advisory lock are PostgreSQL-specific; embedded test databases are left alone
+        this.postgres = url.startsWith("jdbc:postgresql:");
     }
 
     @Override
     public void run(ApplicationArguments args) {
+        if (!postgres || currentVersion() >= SCHEMA_VERSION) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> migrate());
+    }
+
+    /**
+     * @return the recorded schema version, or 0 for a database never migrated
+     */
+    int currentVersion() {
+        try {
+            List<Integer> version = jdbcTemplate.queryForList(
+                    "SELECT version FROM schema_state WHERE id = 1", Integer.class);
+            return version.isEmpty() ? 0 : version.get(0);
+        } catch (BadSqlGrammarException e) {
+            // No schema_state table yet
+            return 0;
+        }
+    }
+
+    private void migrate() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + MIGRATION_LOCK_KEY + ")");
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS schema_state (" +
+                        "id INTEGER PRIMARY KEY, version INTEGER NOT NULL, migrated_at TIMESTAMP NOT NULL)"
+        );
+        // Another node may have migrated while this one waited for the lock
+        int version = currentVersion();
+        if (version >= SCHEMA_VERSION) {
+            return;
+        }
         if (!tableExists("users")) {
+            // Nothing to bring up to date until the entities' tables exist
             return;
         }
 
+        log.info("Migrating database schema from version {} to {}", version, SCHEMA_VERSION);
         ensureUserNameColumnsAreCompatible();
         ensureDefaultAdminUser();
+        ensureAgendaIndex();
+
+        jdbcTemplate.update(
+                "INSERT INTO schema_state (id, version, migrated_at) VALUES (1, ?, now()) " +
+                        "ON CONFLICT (id) DO UPDATE SET version = EXCLUDED.version, migrated_at = EXCLUDED.migrated_at",
+                SCHEMA_VERSION
+        );
     }
 
     private void ensureUserNameColumnsAreCompatible() {
-        boolean hasFirstNameSnake = columnExists("users", "first_name");
-        boolean hasLastNameSnake = columnExists("users", "last_name");
+        Set<String> columns = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns " +
+                        "WHERE table_schema = 'public' AND table_name = 'users'",
+                String.class
+        ));
 
-        if (!hasFirstNameSnake) {
+        if (!columns.contains("first_name")) {
             jdbcTemplate.execute("ALTER TABLE users ADD COLUMN first_name VARCHAR(255)");
         }
-        if (!hasLastNameSnake) {
+        if (!columns.contains("last_name")) {
             jdbcTemplate.execute("ALTER TABLE users ADD COLUMN last_name VARCHAR(255)");
         }
 
-        copyLegacyColumnIfPresent("firstname", "first_name");
-        copyLegacyColumnIfPresent("firstName", "first_name");
-        copyLegacyColumnIfPresent("lastname", "last_name");
-        copyLegacyColumnIfPresent("lastName", "last_name");
+        copyLegacyColumnIfPresent(columns, "firstname", "first_name");
+        copyLegacyColumnIfPresent(columns, "firstName", "first_name");
+        copyLegacyColumnIfPresent(columns, "lastname", "last_name");
+        copyLegacyColumnIfPresent(columns, "lastName", "last_name");
 
         jdbcTemplate.update(
                 "UPDATE users SET first_name = COALESCE(first_name, 'User') WHERE first_name IS NULL OR TRIM(first_name) = ''"
@@ -56,8 +135,8 @@ public class DatabaseCompatibilityRunner implements ApplicationRunner {
         );
     }
 
-    private void copyLegacyColumnIfPresent(String sourceColumn, String targetColumn) {
-        if (!columnExists("users", sourceColumn)) {
+    private void copyLegacyColumnIfPresent(Set<String> columns, String sourceColumn, String targetColumn) {
+        if (!columns.contains(sourceColumn)) {
             return;
         }
         String source = quoteIdentifier(sourceColumn);
@@ -81,7 +160,8 @@ public class DatabaseCompatibilityRunner implements ApplicationRunner {
                     String.class,
                     DEFAULT_ADMIN_EMAIL
             );
-            if (currentPassword == null || !currentPassword.startsWith("$2")) {
+            // "$2" is a legacy BCrypt hash, "{" an encoder-prefixed hash from PasswordEncoders
+            if (currentPassword == null || !(currentPassword.startsWith("$2") || currentPassword.startsWith("{"))) {
                 jdbcTemplate.update(
                         "UPDATE users SET password = ? WHERE email = ?",
                         DEFAULT_ADMIN_PASSWORD_HASH,
@@ -103,24 +183,22 @@ public class DatabaseCompatibilityRunner implements ApplicationRunner {
         log.info("Default admin user seeded: {}", DEFAULT_ADMIN_EMAIL);
     }
 
-    private boolean tableExists(String tableName) {
-        Integer count = jdbcTemplate.queryForObject(
-                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = 'public' AND table_name = ?",
-                Integer.class,
-                tableName
+    private void ensureAgendaIndex() {
+        if (!tableExists("tasks")) {
+            return;
+        }
+        // Partial index behind GET /tasks/agenda; JPA index annotations cannot express the WHERE clause.
+        // completed is constant under the predicate, so the key is due_date plus id for keyset paging
+        jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date ON tasks (project_id, due_date, id) " +
+                        "WHERE completed = false AND due_date IS NOT NULL"
         );
-        return count != null && count > 0;
     }
 
-    private boolean columnExists(String tableName, String columnName) {
-        Integer count = jdbcTemplate.queryForObject(
-                "SELECT COUNT(*) FROM information_schema.columns " +
-                        "WHERE table_schema = 'public' AND table_name = ? AND column_name = ?",
-                Integer.class,
-                tableName,
-                columnName
-        );
-        return count != null && count > 0;
+    private boolean tableExists(String tableName) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, "public." + tableName);
+        return Boolean.TRUE.equals(exists);
     }
 
     private String quoteIdentifier(String identifier) {
@@ -0,0 +1,74 @@
+package com.taskmanager.config;
+
+import com.taskmanager.dto.AgendaResponse;
+import com.taskmanager.dto.ProgressResponse;
+import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.ProjectSummaryResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.event.ProjectEvent;
+import com.taskmanager.event.TaskEvent;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image build
+ * ({@code mvn -Pnative native:compile}). Spring AOT already covers beans,
+ * entities, repositories and controller payloads; this adds what it cannot
+ * see:
+ *
+ * <ul>
+ *   <li>Jackson bindings for types serialized outside controllers (SSE,
+ *   cluster notifications, the outbox). Lombok itself has no runtime part;
+ *   its generated accessors only need to be reachable for Jackson.</li>
+ *   <li>Constructors called by JPQL {@code SELECT new ...} expressions.</li>
+ *   <li>The jjwt implementation classes and service files, which jjwt-api
+ *   loads by name.</li>
+ * </ul>
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+@RegisterReflectionForBinding({TaskEvent.class, ProjectEvent.class, TaskResponse.class, ProjectResponse.class,
+        ProjectSummaryResponse.class, ProgressResponse.class, AgendaResponse.class})
+public class NativeHintsConfig {
+
+    private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Package-private, so not listed in @RegisterReflectionForBinding
+            hints.reflection().registerType(TypeReference.of("com.taskmanager.event.ClusterEventRelay$Envelope"),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+
+            hints.reflection().registerType(TaskResponse.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(ProjectResponse.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            for (String type : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.taskmanager.config;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.mapper.TaskJsonCache;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes tasks and projects as {@code application/x-protobuf}, following
+ * {@code src/main/proto/taskmanager.proto}. Encoded by hand with
+ * {@link CodedOutputStream} rather than through generated classes, so the
+ * rows need no copy into message objects: single tasks and projects, lists
+ * of them (including sparse {@code fields=} rows and cached JSON fragments)
+ * and pages. Other response types are not offered in this format; for lists
+ * and pages that is decided from the declared element type, so asking for
+ * protobuf from an endpoint returning other rows gets a 406.
+ */
+public class ProtobufResponseConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    // Shared by Task and Project; see taskmanager.proto
+    private static final Map<String, Integer> ROW_FIELDS = Map.of(
+            "id", 1, "title", 2, "description", 3, "dueDate", 4, "completed", 5, "projectId", 6);
+    private static final int ROWS = 1;
+    private static final int PAGE_NUMBER = 2;
+    private static final int PAGE_SIZE = 3;
+    private static final int TOTAL_ELEMENTS = 4;
+    private static final int TOTAL_PAGES = 5;
+    private static final List<Class<?>> ROW_TYPES = List.of(
+            TaskResponse.class, ProjectResponse.class, TaskJsonCache.Fragment.class, Map.class);
+
+    /**
+     * Receives the fields of one row; sized first, then written.
+     */
+    private interface FieldSink {
+
+        void int64(int field, long value) throws IOException;
+
+        void string(int field, String value) throws IOException;
+
+        void bool(int field, boolean value) throws IOException;
+    }
+
+    private static final class Sizer implements FieldSink {
+
+        private int size;
+
+        @Override
+        public void int64(int field, long value) {
+            size += CodedOutputStream.computeInt64Size(field, value);
+        }
+
+        @Override
+        public void string(int field, String value) {
+            size += CodedOutputStream.computeStringSize(field, value);
+        }
+
+        @Override
+        public void bool(int field, boolean value) {
+            size += CodedOutputStream.computeBoolSize(field, value);
+        }
+    }
+
+    private record Writer(CodedOutputStream out) implements FieldSink {
+
+        @Override
+        public void int64(int field, long value) throws IOException {
+            out.writeInt64(field, value);
+        }
+
+        @Override
+        public void string(int field, String value) throws IOException {
+            out.writeString(field, value);
+        }
+
+        @Override
+        public void bool(int field, boolean value) throws IOException {
+            out.writeBool(field, value);
+        }
+    }
+
+    public ProtobufResponseConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TaskResponse.class == clazz || ProjectResponse.class == clazz || TaskJsonCache.Fragment.class == clazz
+                || List.class.isAssignableFrom(clazz) || Page.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(clazz, mediaType)) {
+            return false;
+        }
+        if (type == null || !(List.class.isAssignableFrom(clazz) || Page.class.isAssignableFrom(clazz))) {
+            return true;
+        }
+        Class<?> rowType = ResolvableType.forType(type).as(Iterable.class).getGeneric(0).resolve();
+        // Undeclared rows (ResponseEntity<?>) are checked as they are written
+        return rowType == null || rowType == Object.class
+                || ROW_TYPES.stream().anyMatch(supported -> supported.isAssignableFrom(rowType));
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        write(body, outputMessage.getBody());
+    }
+
+    /**
+     * Encodes a response body; exposed for benchmarks.
+     */
+    public static void write(Object body, OutputStream output) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(output);
+        if (body instanceof Page<?> page) {
+            writeRows(out, page.getContent());
+            writeInt32(out, PAGE_NUMBER, page.getNumber());
+            writeInt32(out, PAGE_SIZE, page.getSize());
+            if (page.getTotalElements() != 0) {
+                out.writeInt64(TOTAL_ELEMENTS, page.getTotalElements());
+            }
+            writeInt32(out, TOTAL_PAGES, page.getTotalPages());
+        } else if (body instanceof Collection<?> rows) {
+            writeRows(out, rows);
+        } else {
+            fields(body, new Writer(out));
+        }
+        out.flush();
+    }
+
+    private static void writeRows(CodedOutputStream out, Collection<?> rows) throws IOException {
+        Writer writer = new Writer(out);
+        for (Object row : rows) {
+            Sizer sizer = new Sizer();
+            fields(row, sizer);
+            out.writeTag(ROWS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(sizer.size);
+            fields(row, writer);
+        }
+    }
+
+    private static void writeInt32(CodedOutputStream out, int field, int value) throws IOException {
+        // proto3 leaves default values off the wire
+        if (value != 0) {
+            out.writeInt32(field, value);
+        }
+    }
+
+    private static void fields(Object row, FieldSink sink) throws IOException {
+        if (row instanceof TaskJsonCache.Fragment fragment) {
+            row = fragment.task();
+        }
+        if (row instanceof TaskResponse task) {
+            int64(sink, 1, task.getId());
+            string(sink, 2, task.getTitle());
+            string(sink, 3, task.getDescription());
+            string(sink, 4, task.getDueDate());
+            if (task.isCompleted()) {
+                sink.bool(5, true);
+            }
+            int64(sink, 6, task.getProjectId());
+        } else if (row instanceof ProjectResponse project) {
+            int64(sink, 1, project.getId());
+            string(sink, 2, project.getTitle());
+            string(sink, 3, project.getDescription());
+        } else if (row instanceof Map<?, ?> sparse) {
+            for (Map.Entry<?, ?> entry : sparse.entrySet()) {
+                Integer field = ROW_FIELDS.get(String.valueOf(entry.getKey()));
+                if (field == null) {
+                    throw new HttpMessageNotWritableException("No protobuf field for " + entry.getKey());
+                }
+                Object value = entry.getValue();
+                if (value instanceof Number number) {
+                    int64(sink, field, number.longValue());
+                } else if (value instanceof Boolean flag) {
+                    if (flag) {
+                        sink.bool(field, true);
+                    }
+                } else {
+                    string(sink, field, value);
+                }
+            }
+        } else {
+            throw new HttpMessageNotWritableException("Cannot encode " + (row == null ? "null" : row.getClass().getName())
+                    + " as protobuf");
+        }
+    }
+
+    private static void int64(FieldSink sink, int field, Long value) throws IOException {
+        if (value != null && value != 0) {
+            sink.int64(field, value);
+        }
+    }
+
+    private static void string(FieldSink sink, int field, Object value) throws IOException {
+        // Dates are written as ISO-8601 text, which is what LocalDate.toString() returns
+        String text = value == null ? null : value.toString();
+        if (text != null && !text.isEmpty()) {
+            sink.string(field, text);
+        }
+    }
+}
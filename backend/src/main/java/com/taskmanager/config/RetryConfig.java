@@ -0,0 +1,13 @@
+package com.taskmanager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Enables {@code @Retryable}. The retry advice runs outside the transaction
+ * advice, so every attempt gets a fresh transaction and persistence context.
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
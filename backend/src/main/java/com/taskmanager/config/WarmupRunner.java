@@ -0,0 +1,221 @@
+package com.taskmanager.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.mapper.ProjectMapper;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSpecifications;
+import com.taskmanager.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the request hot paths {@code warmup.iterations} times before the node
+ * reports ready, so the JIT has compiled them by the time real traffic
+ * arrives: token signing and verification, entity mapping, JSON encoding of
+ * a task page and the listing queries. The listing queries reach the shared
+ * database, so they only run every {@code warmup.query-every} iterations, in
+ * a read-only transaction that is rolled back. {@code warmup.duration-ms}
+ * caps the whole run.
+ *
+ * <p>Off by default; deployments that scale out under load enable it in
+ * their profile (see {@code application-docker.yml}).
+ *
+ * <p>Runs after the other application runners. Spring Boot only switches
+ * readiness to {@code ACCEPTING_TRAFFIC} once every runner has returned;
+ * this bean is also the {@code warmup} health indicator in the readiness
+ * group, which stays {@code OUT_OF_SERVICE} until warm-up has finished.
+ * Liveness is unaffected.
+ */
+@Component("warmup")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmupRunner implements ApplicationRunner, HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+    private static final int PAGE_SIZE = 20;
+
+    private final JwtUtil jwtUtil;
+    private final TaskMapper taskMapper;
+    private final ProjectMapper projectMapper;
+    private final ObjectMapper objectMapper;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long maxIterations;
+    private final int queryEvery;
+    private final Duration duration;
+
+    private final List<Task> sampleTasks = new ArrayList<>();
+    private final List<Project> sampleProjects = new ArrayList<>();
+    private boolean canSign = true;
+    private volatile boolean complete;
+    private volatile long iterations;
+
+    public WarmupRunner(
+            JwtUtil jwtUtil,
+            TaskMapper taskMapper,
+            ProjectMapper projectMapper,
+            ObjectMapper objectMapper,
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${warmup.enabled:false}") boolean enabled,
+            @Value("${warmup.iterations:5000}") long maxIterations,
+            @Value("${warmup.query-every:100}") int queryEvery,
+            @Value("${warmup.duration-ms:10000}") long durationMs) {
+        this.jwtUtil = jwtUtil;
+        this.taskMapper = taskMapper;
+        this.projectMapper = projectMapper;
+        this.objectMapper = objectMapper;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxIterations = maxIterations;
+        this.queryEvery = Math.max(1, queryEvery);
+        this.duration = Duration.ofMillis(durationMs);
+        this.complete = !enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        buildSamples();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            while (iterations < maxIterations && System.nanoTime() - deadline < 0) {
+                warmTokens();
+                warmMapping();
+                if (iterations % queryEvery == 0) {
+                    warmQueriesAndJson();
+                }
+                iterations++;
+            }
+            log.info("JIT warm-up ran {} iterations in {} ms", iterations,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            // A cold node is still better than none
+            log.warn("JIT warm-up stopped after {} iterations: {}", iterations, e.getMessage());
+        } finally {
+            complete = true;
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = complete ? Health.up() : Health.outOfService();
+        return health.withDetail("iterations", iterations).build();
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    private void warmTokens() {
+        if (!canSign) {
+            return;
+        }
+        try {
+            String token = jwtUtil.generateAccessToken(0L, "warmup@localhost", List.of("ROLE_USER"));
+            Claims claims = jwtUtil.parseAccessToken(token);
+            jwtUtil.toPrincipal(claims);
+            jwtUtil.extractAuthorities(claims);
+        } catch (IllegalStateException e) {
+            // Verification-only node: there is no key to sign a token to verify
+            canSign = false;
+        }
+    }
+
+    private void warmMapping() {
+        List<TaskResponse> tasks = taskMapper.toResponseList(sampleTasks);
+        projectMapper.toResponseList(sampleProjects);
+        try {
+            objectMapper.writeValueAsBytes(tasks);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode warm-up tasks", e);
+        }
+    }
+
+    private void warmQueriesAndJson() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            Long projectId = -1L;
+            Long userId = -1L;
+            Page<Project> first = projectRepository.findAll(PageRequest.of(0, 1));
+            if (first.hasContent()) {
+                projectId = first.getContent().get(0).getId();
+                userId = first.getContent().get(0).getUser().getId();
+            }
+
+            PageRequest page = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+            Page<TaskResponse> tasks = taskRepository.findResponses(
+                    TaskSpecifications.matching(projectId, new TaskFilter()), page);
+            taskRepository.findFields(TaskSpecifications.inProject(projectId), page, Set.of("title", "completed"));
+            taskRepository.findAgenda(userId, LocalDate.now().plusDays(7), LocalDate.now().minusDays(1),
+                    Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE + 1));
+            projectRepository.findResponsesByUserId(userId, page);
+            projectRepository.findSummariesByUserId(userId, PageRequest.of(0, PAGE_SIZE));
+
+            try {
+                objectMapper.writeValueAsBytes(tasks);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to encode warm-up page", e);
+            }
+        });
+    }
+
+    private void buildSamples() {
+        User user = new User();
+        user.setId(0L);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            Project project = new Project();
+            project.setId(id);
+            project.setTitle("Warm-up project " + id);
+            project.setDescription("Warm-up description " + id);
+            project.setUser(user);
+            sampleProjects.add(project);
+
+            Task task = new Task();
+            task.setId(id);
+            task.setTitle("Warm-up task " + id);
+            task.setDescription("Warm-up description " + id);
+            task.setDueDate(LocalDate.now().plusDays(id));
+            task.setCompleted(id % 2 == 0);
+            task.setProject(project);
+            sampleTasks.add(task);
+        }
+    }
+}
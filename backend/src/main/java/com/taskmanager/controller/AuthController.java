@@ -2,63 +2,168 @@ package com.taskmanager.controller;
 
 import com.taskmanager.dto.LoginRequest;
 import com.taskmanager.dto.LoginResponse;
+import com.taskmanager.dto.RefreshTokenRequest;
 import com.taskmanager.dto.RegisterRequest;
 import com.taskmanager.model.User;
 import com.taskmanager.security.JwtUtil;
+import com.taskmanager.security.PasswordHashingService;
+import com.taskmanager.security.TokenRevocationService;
+import com.taskmanager.service.RefreshTokenService;
 import com.taskmanager.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+    private static final List<String> USER_ROLES = List.of("ROLE_USER");
+
     @Autowired
     private UserService userService;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    // Boot's MVC async executor; keeps database work and signing off the hashing pool
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest request) {
         User user = userService.findByEmail(request.getEmail())
                 .orElse(null);
 
-        if (user == null || !userService.verifyPassword(request.getPassword(), user.getPassword())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body("Invalid email or password");
+        if (user == null) {
+            return CompletableFuture.completedFuture(invalidCredentials());
         }
 
-        String token = jwtUtil.generateToken(user.getEmail());
-        LoginResponse response = new LoginResponse(token, user.getEmail());
+        // Password verification runs on the hashing pool; the request thread is released meanwhile
+        try {
+            return passwordHashingService.verify(request.getPassword(), user.getPassword())
+                    .thenApplyAsync(verification -> {
+                        if (!verification.matches()) {
+                            return invalidCredentials();
+                        }
+                        upgradePasswordHash(user, verification.upgradedHash());
+                        return loginSucceeded(user);
+                    }, applicationTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(
+                    hashingBusy("Too many login attempts in progress, please retry shortly"));
+        }
+    }
 
-        return ResponseEntity.ok(response);
+    private ResponseEntity<?> hashingBusy(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(message);
+    }
+
+    private void upgradePasswordHash(User user, String upgradedHash) {
+        if (upgradedHash == null) {
+            return;
+        }
+        try {
+            userService.updatePasswordHash(user.getId(), upgradedHash);
+        } catch (RuntimeException e) {
+            // The old hash still verifies; the upgrade is retried on the next login
+            log.warn("Failed to upgrade password hash for user {}", user.getId(), e);
+        }
+    }
+
+    private ResponseEntity<?> loginSucceeded(User user) {
+        return ResponseEntity.ok(issueTokens(user, refreshTokenService.issue(user)));
+    }
+
+    private LoginResponse issueTokens(User user, String refreshToken) {
+        String token = jwtUtil.generateAccessToken(user.getId(), user.getEmail(), USER_ROLES);
+        return new LoginResponse(token, refreshToken, jwtUtil.getAccessExpirationSeconds(), user.getEmail());
+    }
+
+    private ResponseEntity<?> invalidCredentials() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body("Invalid email or password");
     }
 
     @PostMapping("/register")
-    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<?>> register(@Valid @RequestBody RegisterRequest request) {
+        // Check if user already exists
+        if (userService.existsByEmail(request.getEmail())) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("User with email " + request.getEmail() + " already exists"));
+        }
+
+        // Hashing runs on the hashing pool, like login; creating the user and its tokens does not
         try {
-            // Check if user already exists
-            if (userService.existsByEmail(request.getEmail())) {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                        .body("User with email " + request.getEmail() + " already exists");
-            }
+            return passwordHashingService.encode(request.getPassword())
+                    .thenApplyAsync(encodedPassword -> registered(request, encodedPassword), applicationTaskExecutor)
+                    .exceptionally(e -> ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                            .body("Registration failed: " + (e.getCause() != null ? e.getCause() : e).getMessage()));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(
+                    hashingBusy("Too many registrations in progress, please retry shortly"));
+        }
+    }
 
-            // Create new user
-            User user = userService.registerUser(request);
+    private ResponseEntity<?> registered(RegisterRequest request, String encodedPassword) {
+        User user = userService.registerUser(request, encodedPassword);
+        // Generate tokens for the new user
+        return ResponseEntity.status(HttpStatus.CREATED).body(issueTokens(user, refreshTokenService.issue(user)));
+    }
 
-            // Generate token for the new user
-            String token = jwtUtil.generateToken(user.getEmail());
-            LoginResponse response = new LoginResponse(token, user.getEmail());
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return refreshTokenService.rotate(request.getRefreshToken())
+                .<ResponseEntity<?>>map(rotation ->
+                        ResponseEntity.ok(issueTokens(rotation.user(), rotation.refreshToken())))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body("Invalid or expired refresh token"));
+    }
 
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @Valid @RequestBody RefreshTokenRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        revokeAccessToken(authorization);
+        return ResponseEntity.noContent().build();
+    }
 
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body("Registration failed: " + e.getMessage());
+    private void revokeAccessToken(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return;
+        }
+        try {
+            Claims claims = jwtUtil.parseAccessToken(authorization.substring(7));
+            tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+        } catch (JwtException e) {
+            // Already invalid or expired; nothing left to revoke
         }
     }
 }
@@ -0,0 +1,29 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.security.JwtKeyProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the access-token verification keys so that other services can
+ * validate tokens without sharing a secret.
+ */
+@RestController
+public class JwksController {
+
+    @Autowired
+    private JwtKeyProvider keyProvider;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(keyProvider.getJwks());
+    }
+}
@@ -1,7 +1,10 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.ProgressResponse;
 import com.taskmanager.dto.ProjectRequest;
 import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.ProjectSummaryResponse;
+import com.taskmanager.security.AuthenticatedUser;
 import com.taskmanager.service.ProjectService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,10 +14,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/projects")
@@ -26,51 +30,87 @@ public class ProjectController {
     @PostMapping
     public ResponseEntity<ProjectResponse> createProject(
             @Valid @RequestBody ProjectRequest request,
-            Authentication authentication) {
-        String userEmail = authentication.getName();
-        ProjectResponse response = projectService.createProject(userEmail, request);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        ProjectResponse response = projectService.createProject(userId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // fields=title,... narrows each project to those properties (id is always included)
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> getUserProjects(Authentication authentication) {
-        String userEmail = authentication.getName();
-        List<ProjectResponse> projects = projectService.getUserProjects(userEmail);
+    public ResponseEntity<?> getUserProjects(
+            @RequestParam(required = false) Set<String> fields,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        if (fields != null) {
+            return ResponseEntity.ok(projectService.getUserProjectFields(userId, fields));
+        }
+        List<ProjectResponse> projects = projectService.getUserProjects(userId);
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/paginated")
-    public ResponseEntity<Page<ProjectResponse>> getUserProjectsPaginated(
+    public ResponseEntity<?> getUserProjectsPaginated(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
-            Authentication authentication) {
+            @RequestParam(required = false) Set<String> fields,
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
-        String userEmail = authentication.getName();
+        Long userId = user.id();
 
         Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ?
             Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<ProjectResponse> projects = projectService.getUserProjectsPaginated(userEmail, pageable);
+        if (fields != null) {
+            return ResponseEntity.ok(projectService.getUserProjectFieldsPaginated(userId, pageable, fields));
+        }
+        Page<ProjectResponse> projects = projectService.getUserProjectsPaginated(userId, pageable);
         return ResponseEntity.ok(projects);
     }
 
+    // Projects with task counts in one request, at most 100 per page; sortBy: id, title, totalTasks,
+    // completedTasks, progress
+    @GetMapping("/summaries")
+    public ResponseEntity<Page<ProjectSummaryResponse>> getUserProjectSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        Long userId = user.id();
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ?
+            Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        Page<ProjectSummaryResponse> projects = projectService.getUserProjectSummaries(userId, pageable);
+        return ResponseEntity.ok(projects);
+    }
+
+    // Task totals and progress across all of the user's projects
+    @GetMapping("/progress")
+    public ResponseEntity<ProgressResponse> getUserProgress(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(projectService.getUserProgress(user.id()));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProjectResponse> getProject(
             @PathVariable Long id,
-            Authentication authentication) {
-        String userEmail = authentication.getName();
-        ProjectResponse project = projectService.getProjectById(userEmail, id);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        ProjectResponse project = projectService.getProjectById(userId, id);
         return ResponseEntity.ok(project);
     }
 
     @GetMapping("/{projectId}/progress")
     public ResponseEntity<?> getProjectProgress(
             @PathVariable Long projectId,
-            Authentication authentication) {
-        String userEmail = authentication.getName();
-        return projectService.getProjectProgress(userEmail, projectId);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        return projectService.getProjectProgress(userId, projectId);
     }
 }
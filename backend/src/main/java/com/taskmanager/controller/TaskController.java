@@ -1,20 +1,27 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.AgendaResponse;
+import com.taskmanager.dto.TaskCompletionRequest;
+import com.taskmanager.dto.TaskFilter;
 import com.taskmanager.dto.TaskRequest;
 import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.security.AuthenticatedUser;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.service.TaskToggleCoalescer;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.Set;
 
 @RestController
 public class TaskController {
@@ -22,55 +29,85 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskToggleCoalescer toggleCoalescer;
+
     @PostMapping("/projects/{projectId}/tasks")
     public ResponseEntity<TaskResponse> createTask(
             @PathVariable Long projectId,
             @Valid @RequestBody TaskRequest request,
-            Authentication authentication) {
-        String userEmail = authentication.getName();
-        TaskResponse response = taskService.createTask(userEmail, projectId, request);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        TaskResponse response = taskService.createTask(userId, projectId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // fields=title,completed,... narrows each task to those properties (id is always included)
     @GetMapping("/projects/{projectId}/tasks")
-    public ResponseEntity<List<TaskResponse>> getProjectTasks(
+    public ResponseEntity<?> getProjectTasks(
             @PathVariable Long projectId,
-            Authentication authentication) {
-        String userEmail = authentication.getName();
-        List<TaskResponse> tasks = taskService.getProjectTasks(userEmail, projectId);
-        return ResponseEntity.ok(tasks);
+            @RequestParam(required = false) Set<String> fields,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        if (fields != null) {
+            return ResponseEntity.ok(taskService.getProjectTaskFields(userId, projectId, fields));
+        }
+        return ResponseEntity.ok(taskService.getProjectTasksJson(userId, projectId));
     }
 
     @GetMapping("/projects/{projectId}/tasks/paginated")
-    public ResponseEntity<Page<TaskResponse>> getProjectTasksPaginated(
+    public ResponseEntity<?> getProjectTasksPaginated(
             @PathVariable Long projectId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(required = false) String title,
+            @RequestParam(required = false) String description,
             @RequestParam(required = false) Boolean completed,
-            Authentication authentication) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(required = false) Set<String> fields,
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
-        String userEmail = authentication.getName();
+        Long userId = user.id();
 
         Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ?
             Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        TaskFilter filter = new TaskFilter(title, description, completed, dueFrom, dueTo);
 
-        Page<TaskResponse> tasks = taskService.getProjectTasksPaginated(
-            userEmail, projectId, pageable, title, completed);
-        return ResponseEntity.ok(tasks);
+        if (fields != null) {
+            return ResponseEntity.ok(taskService.getProjectTaskFieldsPaginated(userId, projectId, pageable, filter, fields));
+        }
+        return ResponseEntity.ok(taskService.getProjectTasksJsonPaginated(userId, projectId, pageable, filter));
+    }
+
+    // Open tasks due up to `to` (default: a week from today) across all projects, overdue first
+    @GetMapping("/tasks/agenda")
+    public ResponseEntity<AgendaResponse> getAgenda(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        LocalDate until = to != null ? to : LocalDate.now().plusDays(7);
+        AgendaResponse agenda = taskService.getAgenda(userId, from, until, cursor, size);
+        return ResponseEntity.ok(agenda);
     }
 
     @PutMapping("/tasks/{taskId}/complete")
     public ResponseEntity<?> completeTask(
             @PathVariable Long taskId,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String userEmail = authentication.getName();
-            TaskResponse response = taskService.completeTask(userEmail, taskId);
+            Long userId = user.id();
+            TaskResponse response = taskService.completeTask(userId, taskId);
             return ResponseEntity.ok(response);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Task was modified concurrently, please retry");
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Failed to complete task: " + e.getMessage());
@@ -83,11 +120,17 @@ public class TaskController {
     @PutMapping("/tasks/{taskId}/toggle")
     public ResponseEntity<?> toggleTaskCompletion(
             @PathVariable Long taskId,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            String userEmail = authentication.getName();
-            TaskResponse response = taskService.toggleTaskCompletion(userEmail, taskId);
+            Long userId = user.id();
+            // Coalesced toggles skip the per-click transaction and are written in batches
+            TaskResponse response = toggleCoalescer.isEnabled()
+                    ? toggleCoalescer.toggle(userId, taskId)
+                    : taskService.toggleTaskCompletion(userId, taskId);
             return ResponseEntity.ok(response);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Task was modified concurrently, please retry");
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Failed to toggle task completion: " + e.getMessage());
@@ -97,12 +140,23 @@ public class TaskController {
         }
     }
 
+    // Idempotent alternative to toggle: safe for clients to resend
+    @PutMapping("/tasks/{taskId}/completion")
+    public ResponseEntity<TaskResponse> setTaskCompletion(
+            @PathVariable Long taskId,
+            @Valid @RequestBody TaskCompletionRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        TaskResponse response = taskService.setTaskCompletion(userId, taskId, request.getCompleted());
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/tasks/{taskId}")
     public ResponseEntity<Void> deleteTask(
             @PathVariable Long taskId,
-            Authentication authentication) {
-        String userEmail = authentication.getName();
-        taskService.deleteTask(userEmail, taskId);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        taskService.deleteTask(userId, taskId);
         return ResponseEntity.noContent().build();
     }
 }
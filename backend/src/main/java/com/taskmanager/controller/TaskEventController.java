@@ -0,0 +1,86 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.event.TaskEvent;
+import com.taskmanager.event.TaskEventBus;
+import com.taskmanager.security.AuthenticatedUser;
+import com.taskmanager.service.ProjectService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Server-Sent Events stream of task changes for one project, so clients can
+ * update their task list in place instead of polling. Browsers' EventSource
+ * cannot set headers, so this endpoint also accepts the access token as an
+ * {@code access_token} query parameter (see {@link com.taskmanager.security.JwtFilter}).
+ */
+@RestController
+public class TaskEventController {
+
+    @Autowired
+    private TaskEventBus taskEventBus;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Value("${events.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @GetMapping(path = "/projects/{projectId}/tasks/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        // Ownership is checked once; events are then routed by project id
+        projectService.getProjectEntity(userId, projectId);
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        TaskEventBus.Subscription subscription = taskEventBus.subscribe(projectId, new EmitterSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    private static final class EmitterSink implements TaskEventBus.Sink {
+
+        private final SseEmitter emitter;
+
+        EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(TaskEvent event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .name(event.type().name().toLowerCase(Locale.ROOT))
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close(boolean dropped) {
+            if (dropped) {
+                // The client reconnects on its own and reloads the list it missed
+                try {
+                    emitter.send(SseEmitter.event().name("dropped").data("", MediaType.TEXT_PLAIN));
+                } catch (IOException | IllegalStateException e) {
+                    // Already gone
+                }
+            }
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummaryResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private long totalTasks;
+    private long completedTasks;
+    private double progressPercentage;
+}
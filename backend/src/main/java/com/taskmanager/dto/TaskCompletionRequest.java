@@ -0,0 +1,15 @@
+package com.taskmanager.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCompletionRequest {
+
+    @NotNull(message = "Completed is required")
+    private Boolean completed;
+}
@@ -0,0 +1,30 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Optional criteria for listing a project's tasks. Unset fields do not
+ * filter.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+
+    // Case-insensitive substring of the title
+    private String title;
+
+    // Case-insensitive substring of the description
+    private String description;
+
+    private Boolean completed;
+
+    // Inclusive due-date bounds
+    private LocalDate dueFrom;
+
+    private LocalDate dueTo;
+}
@@ -0,0 +1,360 @@
+package com.taskmanager.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.config.LifecyclePhases;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Fans committed task and project changes out to every backend node through
+ * PostgreSQL {@code LISTEN/NOTIFY}, so clients connected to any replica see
+ * changes made on the others without extra infrastructure.
+ *
+ * <p>Outgoing events are buffered for a short window and coalesced per task
+ * or project (only the latest state is sent), then packed into as few
+ * notifications as fit PostgreSQL's payload limit. A single event too large
+ * for one notification is sent without its body and reloaded by the
+ * receivers.
+ *
+ * <p>Incoming notifications are read on a dedicated connection and republished
+ * as application events outside any transaction. Listeners declared with
+ * {@code @TransactionalEventListener(fallbackExecution = true)}, such as
+ * {@link TaskEventBus}, therefore see local changes after commit and remote
+ * changes on arrival; this relay's own listeners are transaction-bound, so
+ * replayed events are never sent back out. Delivery is best effort: events
+ * sent while a node's listener is reconnecting are lost to that node.
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.events.enabled", havingValue = "true")
+public class ClusterEventRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterEventRelay.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 30000;
+
+    /**
+     * The notification payload.
+     */
+    record Envelope(String node, List<TaskEvent> tasks, List<ProjectEvent> projects) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final String configuredNodeId;
+    private volatile String nodeId;
+    private final int maxPayloadBytes;
+
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+    private final Counter notificationCounter;
+    private final Counter receivedCounter;
+
+    private final Object lock = new Object();
+    private Map<Long, TaskEvent> pendingTasks = new LinkedHashMap<>();
+    private Map<Long, ProjectEvent> pendingProjects = new LinkedHashMap<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public ClusterEventRelay(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${cluster.events.channel:taskmanager_events}") String channel,
+            @Value("${cluster.node-id:}") String nodeId,
+            @Value("${cluster.events.max-payload-bytes:7900}") int maxPayloadBytes) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.configuredNodeId = nodeId;
+        this.nodeId = nodeIdForThisRun();
+        this.maxPayloadBytes = maxPayloadBytes;
+
+        this.sentCounter = Counter.builder("cluster.events.sent")
+                .description("Change events sent to other nodes after coalescing")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("cluster.events.coalesced")
+                .description("Change events superseded by a later change within the coalescing window")
+                .register(meterRegistry);
+        this.notificationCounter = Counter.builder("cluster.events.notifications")
+                .description("NOTIFY statements issued")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("cluster.events.received")
+                .description("Change events received from other nodes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens the listening connection. Also runs when the node is restored from
+     * a CRaC checkpoint; a generated node id is replaced then, since every
+     * replica restored from one image would otherwise share it and ignore
+     * each other's notifications.
+     */
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        nodeId = nodeIdForThisRun();
+        running = true;
+        listenerThread = new Thread(this::listen, "cluster-events-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    /**
+     * Sends what is still buffered and closes the listening connection, at
+     * shutdown or before a checkpoint.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        flush();
+        running = false;
+        listenerThread.interrupt();
+        try {
+            listenerThread.join(POLL_TIMEOUT_MS * 2L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return LifecyclePhases.APPLICATION;
+    }
+
+    private String nodeIdForThisRun() {
+        return configuredNodeId.isBlank() ? UUID.randomUUID().toString() : configuredNodeId;
+    }
+
+    @TransactionalEventListener
+    public void onTaskEvent(TaskEvent event) {
+        synchronized (lock) {
+            if (pendingTasks.put(event.taskId(), event) != null) {
+                coalescedCounter.increment();
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProjectEvent(ProjectEvent event) {
+        synchronized (lock) {
+            if (pendingProjects.put(event.projectId(), event) != null) {
+                coalescedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Sends the changes buffered since the last flush.
+     */
+    @Scheduled(fixedDelayString = "${cluster.events.coalesce-ms:50}")
+    public void flush() {
+        for (String payload : drainPayloads()) {
+            try {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+                notificationCounter.increment();
+            } catch (RuntimeException e) {
+                log.warn("Failed to send cluster change notification: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Takes the pending events and encodes them into notification payloads,
+     * each within the size limit.
+     */
+    List<String> drainPayloads() {
+        List<TaskEvent> tasks;
+        List<ProjectEvent> projects;
+        synchronized (lock) {
+            if (pendingTasks.isEmpty() && pendingProjects.isEmpty()) {
+                return List.of();
+            }
+            tasks = new ArrayList<>(pendingTasks.values());
+            projects = new ArrayList<>(pendingProjects.values());
+            pendingTasks = new LinkedHashMap<>();
+            pendingProjects = new LinkedHashMap<>();
+        }
+        sentCounter.increment(tasks.size() + projects.size());
+
+        List<String> payloads = new ArrayList<>();
+        encode(tasks, projects, payloads);
+        return payloads;
+    }
+
+    private void encode(List<TaskEvent> tasks, List<ProjectEvent> projects, List<String> payloads) {
+        String payload = serialize(new Envelope(nodeId, tasks, projects));
+        if (fits(payload)) {
+            payloads.add(payload);
+            return;
+        }
+        encode(tasks, events -> new Envelope(nodeId, events, List.of()), TaskEvent::withoutBody, payloads);
+        encode(projects, events -> new Envelope(nodeId, List.of(), events), ProjectEvent::withoutBody, payloads);
+    }
+
+    /**
+     * Halves the batch until each part fits. A single event that still does
+     * not fit is sent without its body.
+     */
+    private <T> void encode(List<T> events, Function<List<T>, Envelope> envelope, UnaryOperator<T> withoutBody,
+                            List<String> payloads) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String payload = serialize(envelope.apply(events));
+        if (fits(payload)) {
+            payloads.add(payload);
+        } else if (events.size() == 1) {
+            payloads.add(serialize(envelope.apply(List.of(withoutBody.apply(events.get(0))))));
+        } else {
+            int half = events.size() / 2;
+            encode(events.subList(0, half), envelope, withoutBody, payloads);
+            encode(events.subList(half, events.size()), envelope, withoutBody, payloads);
+        }
+    }
+
+    private boolean fits(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8).length <= maxPayloadBytes;
+    }
+
+    /**
+     * Republishes the events in a notification from another node.
+     */
+    void receive(String payload) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(payload, Envelope.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cluster change notification: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(envelope.node())) {
+            return;
+        }
+        for (TaskEvent event : envelope.tasks()) {
+            receivedCounter.increment();
+            if (event.task() == null && event.type() != TaskEvent.Type.DELETED) {
+                // Sent without its body; skip if the task is gone by now. Read as columns: there is no
+                // session here to load a lazy description from
+                taskRepository.findResponseById(event.taskId())
+                        .map(task -> TaskEvent.of(event.type(), task))
+                        .ifPresent(eventPublisher::publishEvent);
+            } else {
+                eventPublisher.publishEvent(event);
+            }
+        }
+        for (ProjectEvent event : envelope.projects()) {
+            receivedCounter.increment();
+            if (event.project() == null) {
+                projectRepository.findResponseById(event.projectId())
+                        .map(project -> ProjectEvent.of(event.type(), event.userId(), project))
+                        .ifPresent(eventPublisher::publishEvent);
+            } else {
+                eventPublisher.publishEvent(event);
+            }
+        }
+    }
+
+    private void listen() {
+        long backoffMs = 500;
+        while (running) {
+            // A dedicated connection outside the pool: LISTEN is bound to the session
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cluster change notifications on '{}' as node {}", channel, nodeId);
+                backoffMs = 500;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cluster change listener failed, reconnecting in {} ms: {}", backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private String serialize(Envelope envelope) {
+        try {
+            return objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode cluster change notification", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.event;
+
+import com.taskmanager.model.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default {@link OutboxPublisher} until a broker is wired in: writes each
+ * event to the log.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxPublisher.class);
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.info("Outbox event {} {} {}#{}: {}", event.getId(), event.getEventType(), event.getAggregateType(),
+                    event.getAggregateId(), event.getPayload());
+        }
+    }
+}
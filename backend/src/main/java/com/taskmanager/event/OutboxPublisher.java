@@ -0,0 +1,21 @@
+package com.taskmanager.event;
+
+import com.taskmanager.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Hands outbox events to downstream consumers such as a message broker.
+ *
+ * <p>Delivery is at least once: a batch is deleted from the outbox only after
+ * {@link #publish} returns, so a crash or failure in between publishes it
+ * again. Consumers should deduplicate on {@link OutboxEvent#getId()}.
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Publishes a batch in outbox order. Throwing leaves the whole batch in
+     * the outbox to be retried on the next run.
+     */
+    void publish(List<OutboxEvent> events);
+}
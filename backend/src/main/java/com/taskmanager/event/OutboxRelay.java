@@ -0,0 +1,159 @@
+package com.taskmanager.event;
+
+import com.taskmanager.model.OutboxEvent;
+import com.taskmanager.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox into the {@link OutboxPublisher} in batches.
+ *
+ * <p>Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, published and
+ * deleted in one transaction, so every node can run a relay: concurrent
+ * relays take disjoint batches instead of blocking on each other. A failed
+ * publish rolls the transaction back and the batch is retried on the next
+ * run. Ordering is per batch only once several nodes drain in parallel.
+ *
+ * <p>Lag is exported as {@code outbox.oldest.age} (how long the oldest
+ * pending event has been waiting, measured at scrape time so a stalled relay
+ * keeps growing it), {@code outbox.pending} and the {@code outbox.delivery.lag}
+ * timer from commit to publish.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer deliveryLag;
+    private final AtomicLong pending = new AtomicLong();
+    private volatile Instant oldestPending;
+
+    @Autowired
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxPublisher publisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this(outboxEventRepository, publisher, transactionManager, meterRegistry, Clock.systemUTC(), batchSize,
+                maxBatchesPerRun);
+    }
+
+    OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxPublisher publisher,
+                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Clock clock,
+                int batchSize, int maxBatchesPerRun) {
+        if (batchSize < 1 || maxBatchesPerRun < 1) {
+            throw new IllegalArgumentException("Outbox batch size and batches per run must be positive");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.publishedCounter = Counter.builder("outbox.published")
+                .description("Outbox events handed to the publisher")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.publish.failures")
+                .description("Outbox batches that failed and were left for a retry")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+                .description("Time from an event's commit to its publication")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("outbox.oldest.age", this, OutboxRelay::oldestPendingAgeSeconds)
+                .description("Seconds the oldest pending outbox event has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes full batches until the outbox is drained or the per-run limit
+     * is reached, then refreshes the lag gauges.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            int batches = 0;
+            int drained;
+            do {
+                drained = drainBatch();
+                batches++;
+            } while (drained == batchSize && batches < maxBatchesPerRun);
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Outbox relay failed, retrying on the next run: {}", e.getMessage());
+        }
+        refreshLag();
+    }
+
+    /**
+     * @return the number of events published
+     */
+    int drainBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            publisher.publish(batch);
+            outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+
+            Instant now = clock.instant();
+            for (OutboxEvent event : batch) {
+                deliveryLag.record(Duration.between(event.getCreatedAt(), now));
+            }
+            publishedCounter.increment(batch.size());
+            return batch.size();
+        });
+        return published == null ? 0 : published;
+    }
+
+    private void refreshLag() {
+        try {
+            pending.set(outboxEventRepository.count());
+            oldestPending = outboxEventRepository.findOldestCreatedAt();
+        } catch (RuntimeException e) {
+            log.debug("Failed to refresh outbox lag: {}", e.getMessage());
+        }
+    }
+
+    double oldestPendingAgeSeconds() {
+        Instant oldest = oldestPending;
+        if (oldest == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(oldest, clock.instant()).toMillis() / 1000.0);
+    }
+}
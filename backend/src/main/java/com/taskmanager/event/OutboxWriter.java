@@ -0,0 +1,47 @@
+package com.taskmanager.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.model.OutboxEvent;
+import com.taskmanager.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Records task changes in the outbox as part of the transaction that made
+ * them: the row commits or rolls back together with the change, so
+ * downstream consumers neither miss a committed change nor see one that was
+ * rolled back.
+ *
+ * <p>Events replayed from other nodes by {@link ClusterEventRelay} are
+ * published outside any transaction and are therefore ignored here; the node
+ * that made the change already wrote them.
+ */
+@Component
+public class OutboxWriter {
+
+    static final String TASK_AGGREGATE = "task";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskEvent(TaskEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode outbox event", e);
+        }
+        outboxEventRepository.save(new OutboxEvent(null, TASK_AGGREGATE, event.taskId(), event.type().name(),
+                payload, Instant.now()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskmanager.event;
+
+import com.taskmanager.dto.ProjectResponse;
+
+/**
+ * A committed change to a project.
+ *
+ * @param type What happened to the project
+ * @param userId The owner of the project
+ * @param projectId The project that changed
+ * @param project The project after the change, or null if it was sent without its body
+ */
+public record ProjectEvent(Type type, Long userId, Long projectId, ProjectResponse project) {
+
+    public enum Type { CREATED }
+
+    public static ProjectEvent of(Type type, Long userId, ProjectResponse project) {
+        return new ProjectEvent(type, userId, project.getId(), project);
+    }
+
+    ProjectEvent withoutBody() {
+        return new ProjectEvent(type, userId, projectId, null);
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.event;
+
+import com.taskmanager.dto.TaskResponse;
+
+/**
+ * A committed change to a task, pushed to clients watching its project.
+ *
+ * @param type What happened to the task
+ * @param projectId The project the task belongs to
+ * @param taskId The task that changed
+ * @param task The task after the change, or null if it was deleted or sent without its body
+ */
+public record TaskEvent(Type type, Long projectId, Long taskId, TaskResponse task) {
+
+    public enum Type { CREATED, COMPLETED, REOPENED, TOGGLED, DELETED }
+
+    public static TaskEvent of(Type type, TaskResponse task) {
+        return new TaskEvent(type, task.getProjectId(), task.getId(), task);
+    }
+
+    public static TaskEvent deleted(Long projectId, Long taskId) {
+        return new TaskEvent(Type.DELETED, projectId, taskId, null);
+    }
+
+    TaskEvent withoutBody() {
+        return new TaskEvent(type, projectId, taskId, null);
+    }
+}
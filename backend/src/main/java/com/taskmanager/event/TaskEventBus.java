@@ -0,0 +1,300 @@
+package com.taskmanager.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fan-out of {@link TaskEvent}s to clients watching a project.
+ *
+ * <p>Events are taken from {@code TaskService} only after the transaction
+ * commits, so clients never see a change that was rolled back; changes made
+ * on other nodes are replayed by {@link ClusterEventRelay}. Publishing
+ * never blocks: each subscriber has a bounded buffer drained by a small
+ * dispatcher pool, and a subscriber whose buffer overflows is dropped (its
+ * stream is closed and the client reconnects and reloads) rather than being
+ * allowed to hold events in memory or slow down everyone else.
+ *
+ * <p>A write to a client that stops reading blocks its dispatcher thread
+ * until the socket gives up. A subscriber whose write runs past
+ * {@code events.sse.send-timeout-ms} is dropped the same way, and the pool
+ * gets a thread in place of the stuck one until that write returns, so a
+ * few stalled clients cannot pin every dispatcher.
+ */
+@Component
+public class TaskEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventBus.class);
+
+    /**
+     * Receives the events for one subscriber, on a dispatcher thread and one
+     * at a time. Throwing ends the subscription.
+     */
+    public interface Sink {
+
+        void send(TaskEvent event) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        /**
+         * @param dropped Whether the subscriber is being dropped for falling behind
+         */
+        void close(boolean dropped);
+    }
+
+    private interface Write {
+
+        void run() throws IOException;
+    }
+
+    // Subscriber.writeStarted when no write is in progress, and once a write has been declared stalled
+    private static final long IDLE = 0;
+    private static final long STALLED = -1;
+
+    /**
+     * Handle returned by {@link #subscribe}; cancelling is idempotent.
+     */
+    public interface Subscription {
+
+        void cancel();
+    }
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final int bufferSize;
+    private final Executor dispatcher;
+    private final long sendTimeoutNanos;
+    private final long origin = System.nanoTime();
+    private final Counter droppedCounter;
+
+    @Autowired
+    public TaskEventBus(
+            MeterRegistry meterRegistry,
+            @Value("${events.sse.buffer-size:256}") int bufferSize,
+            @Value("${events.sse.dispatcher-threads:4}") int dispatcherThreads,
+            @Value("${events.sse.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this(meterRegistry, bufferSize, Executors.newFixedThreadPool(dispatcherThreads, new DispatcherThreadFactory()),
+                sendTimeoutMs);
+    }
+
+    TaskEventBus(MeterRegistry meterRegistry, int bufferSize, Executor dispatcher, long sendTimeoutMs) {
+        this.bufferSize = bufferSize;
+        this.dispatcher = dispatcher;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.droppedCounter = Counter.builder("task.events.subscribers.dropped")
+                .description("Event stream subscribers dropped because their buffer overflowed or a write stalled")
+                .register(meterRegistry);
+        Gauge.builder("task.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task event streams on this node")
+                .register(meterRegistry);
+    }
+
+    public Subscription subscribe(Long projectId, Sink sink) {
+        Subscriber subscriber = new Subscriber(projectId, sink, bufferSize);
+        // compute() rather than computeIfAbsent().add() so a concurrent remove() cannot discard the set in between
+        subscribers.compute(projectId, (id, watching) -> {
+            Set<Subscriber> updated = watching != null ? watching : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+        return () -> remove(subscriber, false);
+    }
+
+    // fallbackExecution: events replayed from other nodes arrive outside a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        publish(event);
+    }
+
+    public void publish(TaskEvent event) {
+        Set<Subscriber> watching = subscribers.get(event.projectId());
+        if (watching == null) {
+            return;
+        }
+        for (Subscriber subscriber : watching) {
+            if (subscriber.queue.offer(event)) {
+                schedule(subscriber);
+            } else {
+                remove(subscriber, true);
+            }
+        }
+    }
+
+    /**
+     * Keeps idle streams alive through proxies and detects clients that went
+     * away without closing the connection.
+     */
+    @Scheduled(fixedDelayString = "${events.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(watching -> watching.forEach(subscriber -> {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }));
+    }
+
+    /**
+     * Drops subscribers whose current write has run past the send timeout.
+     * Runs on the scheduler, since every dispatcher may be stuck in a write.
+     */
+    @Scheduled(fixedDelayString = "${events.sse.send-timeout-check-ms:1000}")
+    public void expireStalledWrites() {
+        long now = elapsedNanos();
+        subscribers.values().forEach(watching -> watching.forEach(subscriber -> {
+            long started = subscriber.writeStarted.get();
+            // The compare-and-set fails if that write finished (or the next one began) since it was read
+            if (started > IDLE && now - started > sendTimeoutNanos
+                    && subscriber.writeStarted.compareAndSet(started, STALLED)) {
+                log.debug("Dropping task event stream for project {}: write stalled", subscriber.projectId);
+                resizeDispatcher(1);
+                remove(subscriber, true);
+            }
+        }));
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(watching -> watching.forEach(subscriber -> remove(subscriber, false)));
+        if (dispatcher instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            TaskEvent event;
+            while (!subscriber.closed.get() && (event = subscriber.queue.poll()) != null) {
+                TaskEvent next = event;
+                write(subscriber, () -> subscriber.sink.send(next));
+            }
+            if (!subscriber.closed.get() && subscriber.heartbeatDue) {
+                subscriber.heartbeatDue = false;
+                write(subscriber, subscriber.sink::heartbeat);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Closing task event stream for project {}: {}", subscriber.projectId, e.getMessage());
+            remove(subscriber, false);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        // Work offered while this drain was finishing would otherwise wait for the next event
+        if (!subscriber.closed.get() && (!subscriber.queue.isEmpty() || subscriber.heartbeatDue)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void write(Subscriber subscriber, Write write) throws IOException {
+        long started = elapsedNanos();
+        subscriber.writeStarted.set(started);
+        try {
+            write.run();
+        } finally {
+            if (!subscriber.writeStarted.compareAndSet(started, IDLE)) {
+                // expireStalledWrites() dropped the subscriber while this write was stuck; the close was left to us
+                // because it would have queued behind the same write
+                resizeDispatcher(-1);
+                subscriber.sink.close(true);
+            }
+        }
+    }
+
+    /**
+     * Grows the pool by one while a stalled write holds a thread, and shrinks
+     * it back once that write returns.
+     */
+    private synchronized void resizeDispatcher(int delta) {
+        if (dispatcher instanceof ThreadPoolExecutor pool) {
+            if (delta > 0) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+            } else {
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private long elapsedNanos() {
+        // Offset so a write in progress is always positive, distinct from IDLE and STALLED
+        return System.nanoTime() - origin + 1;
+    }
+
+    private void remove(Subscriber subscriber, boolean dropped) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.projectId, (id, watching) -> {
+            watching.remove(subscriber);
+            return watching.isEmpty() ? null : watching;
+        });
+        subscriberCount.decrementAndGet();
+        subscriber.queue.clear();
+        if (dropped) {
+            droppedCounter.increment();
+        }
+        if (subscriber.writeStarted.get() != STALLED) {
+            dispatcher.execute(() -> subscriber.sink.close(dropped));
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Long projectId;
+        private final Sink sink;
+        private final ArrayBlockingQueue<TaskEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicLong writeStarted = new AtomicLong(IDLE);
+        private volatile boolean heartbeatDue;
+
+        Subscriber(Long projectId, Sink sink, int bufferSize) {
+            this.projectId = projectId;
+            this.sink = sink;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private static final class DispatcherThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "task-events-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.taskmanager.mapper;
 
 import com.taskmanager.dto.ProjectRequest;
 import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.ProjectSummaryResponse;
 import com.taskmanager.model.Project;
 import com.taskmanager.model.User;
+import com.taskmanager.repository.ProjectRepository;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -70,6 +72,29 @@ public class ProjectMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Maps a project summary row to a ProjectSummaryResponse DTO.
+     *
+     * @param summary The project with its task counts
+     * @return A ProjectSummaryResponse DTO
+     */
+    public ProjectSummaryResponse toSummaryResponse(ProjectRepository.Summary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        long total = summary.getTotalTasks();
+        long completed = summary.getCompletedTasks();
+        return new ProjectSummaryResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getDescription(),
+                total,
+                completed,
+                total > 0 ? (double) completed / total * 100 : 0.0
+        );
+    }
+
     /**
      * Updates an existing Project entity with data from a ProjectRequest.
      * This is useful for update operations while preserving entity relationships.
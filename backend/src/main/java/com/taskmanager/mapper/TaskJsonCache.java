@@ -0,0 +1,187 @@
+package com.taskmanager.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.dto.TaskVersion;
+import com.taskmanager.event.TaskEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Pre-encoded JSON for task rows. Task listings are rendered as
+ * {@link Fragment}s holding each task's UTF-8 bytes, which Jackson copies
+ * straight into a JSON response buffer. Binary formats serialize the task
+ * itself.
+ *
+ * <p>Fragments are keyed by the task's {@code version}, which every write
+ * bumps (entity updates through {@code @Version}, coalesced toggles in their
+ * bulk {@code UPDATE}). A listing reads only ids and versions; rows whose
+ * fragment has the same version are written from it, and only the others
+ * are read in full, lazy description included, and encoded. A stale
+ * fragment is never served, even for changes that publish no event or were
+ * made on another node. Task events evict the task's fragment; the rest are
+ * bounded by {@code tasks.json-cache.max-entries}.
+ */
+@Component
+public class TaskJsonCache {
+
+    /**
+     * A task and its encoded JSON.
+     */
+    public static final class Fragment implements JsonSerializable {
+
+        private final TaskResponse task;
+        private final long version;
+        private final SerializedString json;
+
+        private Fragment(TaskResponse task, long version, SerializedString json) {
+            this.task = task;
+            this.version = version;
+            this.json = json;
+        }
+
+        public TaskResponse task() {
+            return task;
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            if (gen instanceof JsonGeneratorImpl) {
+                gen.writeRawValue(json);
+            } else {
+                // CBOR, Smile and token buffers cannot take raw JSON
+                serializers.defaultSerializeValue(task, gen);
+            }
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+
+    // Rows read per query when filling misses; keeps the IN list within driver limits
+    private static final int LOAD_BATCH = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<Long, Fragment> fragments;
+    private final Counter reusedCounter;
+    private final Counter encodedCounter;
+
+    public TaskJsonCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.json-cache.enabled:true}") boolean enabled,
+            @Value("${tasks.json-cache.max-entries:100000}") long maxEntries) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.fragments = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+
+        this.reusedCounter = Counter.builder("tasks.json.fragments")
+                .tag("result", "reused")
+                .description("Task rows written from pre-encoded JSON")
+                .register(meterRegistry);
+        this.encodedCounter = Counter.builder("tasks.json.fragments")
+                .tag("result", "encoded")
+                .description("Task rows encoded by Jackson because no current fragment was cached")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param rows   the listing's tasks, in order
+     * @param loader reads full rows by id, for tasks without a current fragment
+     * @return the tasks as JSON fragments, in the order of {@code rows}; tasks
+     *         the loader no longer finds are left out
+     */
+    public List<Fragment> toJson(List<TaskVersion> rows, Function<Collection<Long>, List<TaskResponse>> loader) {
+        Map<Long, Fragment> current = new HashMap<>();
+        Map<Long, Long> stale = new HashMap<>();
+        for (TaskVersion row : rows) {
+            Fragment cached = fragments.getIfPresent(row.getId());
+            if (cached != null && cached.version == row.getVersion()) {
+                current.put(row.getId(), cached);
+            } else {
+                stale.put(row.getId(), row.getVersion());
+            }
+        }
+        reusedCounter.increment(current.size());
+
+        List<Long> ids = new ArrayList<>(stale.keySet());
+        for (int from = 0; from < ids.size(); from += LOAD_BATCH) {
+            for (TaskResponse task : loader.apply(ids.subList(from, Math.min(from + LOAD_BATCH, ids.size())))) {
+                // Read after the version, so the row is at least that new
+                Fragment fragment = new Fragment(task, stale.get(task.getId()), encode(task));
+                fragments.put(task.getId(), fragment);
+                current.put(task.getId(), fragment);
+                encodedCounter.increment();
+            }
+        }
+
+        List<Fragment> json = new ArrayList<>(rows.size());
+        for (TaskVersion row : rows) {
+            Fragment fragment = current.get(row.getId());
+            if (fragment != null) {
+                json.add(fragment);
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Like {@link #toJson(List, Function)}, for a page of tasks.
+     */
+    public Page<Fragment> toJson(Page<TaskVersion> rows, Function<Collection<Long>, List<TaskResponse>> loader) {
+        return new PageImpl<>(toJson(rows.getContent(), loader), rows.getPageable(), rows.getTotalElements());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        fragments.invalidate(event.taskId());
+    }
+
+    long size() {
+        fragments.cleanUp();
+        return fragments.estimatedSize();
+    }
+
+    private SerializedString encode(TaskResponse task) {
+        try {
+            SerializedString json = new SerializedString(objectMapper.writeValueAsString(task));
+            // Encoded to UTF-8 once here, not on every write
+            json.asUnquotedUTF8();
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode task " + task.getId(), e);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.taskmanager.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.List;
 
@@ -21,7 +23,11 @@ public class Project {
     @Column(nullable = false)
     private String title;
     
+    // Lazy like Task.description; project listings select it as a column when they need it
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,5 +36,9 @@ public class Project {
     
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> tasks;
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
 
@@ -3,7 +3,9 @@ package com.taskmanager.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
 
@@ -21,7 +23,11 @@ public class Task {
     @Column(nullable = false)
     private String title;
 
+    // Loaded on first access (bytecode enhancement); list reads select columns explicitly instead
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
 
     @Column(nullable = true)
@@ -33,4 +39,9 @@ public class Task {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
+
+    // Optimistic locking; the default backfills rows created before the column existed
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
@@ -0,0 +1,26 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest unpublished events for the current transaction. Rows
+     * already locked by another node are skipped rather than waited on, so
+     * several relays can drain the outbox in parallel without publishing the
+     * same event twice.
+     */
+    @Query(value = "SELECT * FROM outbox_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e")
+    Instant findOldestCreatedAt();
+}
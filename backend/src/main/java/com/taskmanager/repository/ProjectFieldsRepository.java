@@ -0,0 +1,22 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.ProjectResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Project listings that select only the requested columns.
+ */
+public interface ProjectFieldsRepository {
+
+    /**
+     * @param fields names of {@link ProjectResponse} properties to select; the id is always included
+     */
+    List<Map<String, Object>> findFieldsByUserId(Long userId, Set<String> fields);
+
+    Page<Map<String, Object>> findFieldsByUserId(Long userId, Pageable pageable, Set<String> fields);
+}
@@ -0,0 +1,47 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+class ProjectFieldsRepositoryImpl implements ProjectFieldsRepository {
+
+    private static final SparseFieldQuery<Project> QUERY = new SparseFieldQuery<>(Project.class, columns());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByUserId(Long userId, Set<String> fields) {
+        return QUERY.list(entityManager, ownedBy(userId), Sort.unsorted(), fields);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFieldsByUserId(Long userId, Pageable pageable, Set<String> fields) {
+        return QUERY.page(entityManager, ownedBy(userId), pageable, fields);
+    }
+
+    private static Specification<Project> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    private static Map<String, Function<Root<Project>, Path<?>>> columns() {
+        Map<String, Function<Root<Project>, Path<?>>> columns = new LinkedHashMap<>();
+        columns.put("id", root -> root.get("id"));
+        columns.put("title", root -> root.get("title"));
+        columns.put("description", root -> root.get("description"));
+        return columns;
+    }
+}
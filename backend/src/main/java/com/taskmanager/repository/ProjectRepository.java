@@ -1,18 +1,79 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.ProjectResponse;
 import com.taskmanager.model.Project;
-import com.taskmanager.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByUser(User user);
-    Page<Project> findByUser(User user, Pageable pageable);
-    Optional<Project> findByIdAndUser(Long id, User user);
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectFieldsRepository {
+    // Keyed by the user_id foreign key, so no users-table lookup is needed
+    Optional<Project> findByIdAndUserId(Long id, Long userId);
+
+    // Listings select the columns directly rather than loading each project's lazy description
+    @Query("SELECT new com.taskmanager.dto.ProjectResponse(p.id, p.title, p.description) FROM Project p " +
+            "WHERE p.user.id = :userId")
+    List<ProjectResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(value = "SELECT new com.taskmanager.dto.ProjectResponse(p.id, p.title, p.description) FROM Project p " +
+            "WHERE p.user.id = :userId",
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.user.id = :userId")
+    Page<ProjectResponse> findResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new com.taskmanager.dto.ProjectResponse(p.id, p.title, p.description) FROM Project p " +
+            "WHERE p.id = :id")
+    Optional<ProjectResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * A project with its task counts.
+     */
+    interface Summary {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        long getTotalTasks();
+        long getCompletedTasks();
+    }
+
+    /**
+     * A page of the user's projects with task counts, from one grouped query
+     * instead of loading every project's tasks. Sortable by any alias in the
+     * select list, including {@code progress} (the completed fraction). Only
+     * p.id is grouped on: PostgreSQL treats the other project columns as
+     * functionally dependent on the primary key.
+     */
+    @Query(value = "SELECT p.id AS id, p.title AS title, p.description AS description, " +
+            "COUNT(t) AS totalTasks, " +
+            "SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END) AS completedTasks, " +
+            "AVG(CASE WHEN t.completed = true THEN 1.0 ELSE 0.0 END) AS progress " +
+            "FROM Project p LEFT JOIN p.tasks t WHERE p.user.id = :userId GROUP BY p.id",
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.user.id = :userId")
+    Page<Summary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Task counts, summed over one or more projects.
+     */
+    interface TaskCounts {
+        long getTotalTasks();
+        long getCompletedTasks();
+    }
+
+    // The summaries aggregate for one project; counts only, no task rows are loaded
+    @Query("SELECT COUNT(t) AS totalTasks, " +
+            "COALESCE(SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END), 0) AS completedTasks " +
+            "FROM Project p LEFT JOIN p.tasks t WHERE p.id = :projectId")
+    TaskCounts countTasksByProjectId(@Param("projectId") Long projectId);
+
+    // The same aggregate across all of the user's projects
+    @Query("SELECT COUNT(t) AS totalTasks, " +
+            "COALESCE(SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END), 0) AS completedTasks " +
+            "FROM Project p LEFT JOIN p.tasks t WHERE p.user.id = :userId")
+    TaskCounts countTasksByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,130 @@
+package com.taskmanager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Selects a subset of an entity's fields as tuples, so the SQL select list
+ * (and the JSON built from it) holds only the columns a client asked for.
+ * Rows come back as field-name-to-value maps in declaration order; the id is
+ * always included.
+ */
+final class SparseFieldQuery<T> {
+
+    private final Class<T> entityType;
+    private final Map<String, Function<Root<T>, Path<?>>> columns;
+
+    /**
+     * @param columns the selectable fields, keyed by their JSON name, in output order
+     */
+    SparseFieldQuery(Class<T> entityType, Map<String, Function<Root<T>, Path<?>>> columns) {
+        this.entityType = entityType;
+        this.columns = new LinkedHashMap<>(columns);
+    }
+
+    /**
+     * @return every selectable field, for callers that need a full row
+     */
+    Collection<String> allFields() {
+        return columns.keySet();
+    }
+
+    List<Map<String, Object>> list(EntityManager entityManager, Specification<T> spec, Sort sort,
+                                   Collection<String> fields) {
+        return rows(select(entityManager, spec, sort, fields).getResultList());
+    }
+
+    Page<Map<String, Object>> page(EntityManager entityManager, Specification<T> spec, Pageable pageable,
+                                   Collection<String> fields) {
+        TypedQuery<Tuple> query = select(entityManager, spec, pageable.getSort(), fields);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        // The count is skipped when the first page is not full
+        return PageableExecutionUtils.getPage(rows(query.getResultList()), pageable,
+                () -> count(entityManager, spec));
+    }
+
+    private TypedQuery<Tuple> select(EntityManager entityManager, Specification<T> spec, Sort sort,
+                                     Collection<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : resolve(fields)) {
+            selections.add(columns.get(field).apply(root).alias(field));
+        }
+        query.multiselect(selections);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private long count(EntityManager entityManager, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Orders the requested fields as declared and adds the id.
+     */
+    private List<String> resolve(Collection<String> fields) {
+        for (String field : fields) {
+            if (!columns.containsKey(field)) {
+                throw new RuntimeException("Unknown field: " + field);
+            }
+        }
+        List<String> resolved = new ArrayList<>();
+        for (String field : columns.keySet()) {
+            if (field.equals("id") || fields.contains(field)) {
+                resolved.add(field);
+            }
+        }
+        return resolved;
+    }
+
+    private static List<Map<String, Object>> rows(List<Tuple> tuples) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                row.put(element.getAlias(), tuple.get(element));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
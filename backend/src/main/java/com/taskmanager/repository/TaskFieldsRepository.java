@@ -0,0 +1,38 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.dto.TaskVersion;
+import com.taskmanager.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Task listings that select columns instead of entities: a sparse set of
+ * fields, or a full {@link TaskResponse} row without hydrating the entity
+ * and its lazy description separately.
+ */
+public interface TaskFieldsRepository {
+
+    /**
+     * @param fields names of {@link TaskResponse} properties to select; the id is always included
+     */
+    List<Map<String, Object>> findFields(Specification<Task> spec, Sort sort, Set<String> fields);
+
+    Page<Map<String, Object>> findFields(Specification<Task> spec, Pageable pageable, Set<String> fields);
+
+    Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Ids and versions only, for callers that hold most rows already and
+     * read the rest by id.
+     */
+    List<TaskVersion> findVersions(Specification<Task> spec, Sort sort);
+
+    Page<TaskVersion> findVersions(Specification<Task> spec, Pageable pageable);
+}
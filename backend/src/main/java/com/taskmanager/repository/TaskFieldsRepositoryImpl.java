@@ -0,0 +1,87 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.dto.TaskVersion;
+import com.taskmanager.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+class TaskFieldsRepositoryImpl implements TaskFieldsRepository {
+
+    private static final SparseFieldQuery<Task> QUERY = new SparseFieldQuery<>(Task.class, columns());
+    private static final SparseFieldQuery<Task> VERSIONS = new SparseFieldQuery<>(Task.class, versionColumns());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFields(Specification<Task> spec, Sort sort, Set<String> fields) {
+        return QUERY.list(entityManager, spec, sort, fields);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Task> spec, Pageable pageable, Set<String> fields) {
+        return QUERY.page(entityManager, spec, pageable, fields);
+    }
+
+    @Override
+    public Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable) {
+        return QUERY.page(entityManager, spec, pageable, QUERY.allFields())
+                .map(row -> new TaskResponse(
+                        (Long) row.get("id"),
+                        (String) row.get("title"),
+                        (String) row.get("description"),
+                        (LocalDate) row.get("dueDate"),
+                        (Boolean) row.get("completed"),
+                        (Long) row.get("projectId")));
+    }
+
+    @Override
+    public List<TaskVersion> findVersions(Specification<Task> spec, Sort sort) {
+        return VERSIONS.list(entityManager, spec, sort, VERSIONS.allFields()).stream()
+                .map(TaskFieldsRepositoryImpl::toVersion)
+                .toList();
+    }
+
+    @Override
+    public Page<TaskVersion> findVersions(Specification<Task> spec, Pageable pageable) {
+        return VERSIONS.page(entityManager, spec, pageable, VERSIONS.allFields())
+                .map(TaskFieldsRepositoryImpl::toVersion);
+    }
+
+    private static TaskVersion toVersion(Map<String, Object> row) {
+        return new TaskVersion((Long) row.get("id"), (Long) row.get("version"));
+    }
+
+    private static Map<String, Function<Root<Task>, Path<?>>> columns() {
+        Map<String, Function<Root<Task>, Path<?>>> columns = new LinkedHashMap<>();
+        columns.put("id", root -> root.get("id"));
+        columns.put("title", root -> root.get("title"));
+        columns.put("description", root -> root.get("description"));
+        columns.put("dueDate", root -> root.get("dueDate"));
+        columns.put("completed", root -> root.get("completed"));
+        // The foreign key column; no join to projects
+        columns.put("projectId", root -> root.get("project").get("id"));
+        return columns;
+    }
+
+    private static Map<String, Function<Root<Task>, Path<?>>> versionColumns() {
+        Map<String, Function<Root<Task>, Path<?>>> columns = new LinkedHashMap<>();
+        columns.put("id", root -> root.get("id"));
+        columns.put("version", root -> root.get("version"));
+        return columns;
+    }
+}
@@ -1,32 +1,66 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.TaskResponse;
 import com.taskmanager.model.Project;
 import com.taskmanager.model.Task;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+// Filtered listings go through TaskSpecifications, with TaskFieldsRepository for column-only reads
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProject(Project project);
-    Page<Task> findByProject(Project project, Pageable pageable);
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskFieldsRepository {
+
+    // Response-only reads select columns; loading entities would fetch each lazy description separately
+    String RESPONSE = "SELECT new com.taskmanager.dto.TaskResponse(t.id, t.title, t.description, t.dueDate, " +
+            "t.completed, t.project.id) FROM Task t ";
 
     Optional<Task> findByIdAndProject(Long id, Project project);
 
-    // Filter by completion status
-    Page<Task> findByProjectAndCompleted(Project project, Boolean completed, Pageable pageable);
+    // Ownership check in one query: tasks joined to projects on the user_id foreign key
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.project.user.id = :userId")
+    Optional<Task> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * A keyset page of the user's open tasks due on or before {@code to},
+     * ordered by due date then id, starting after the given position. One
+     * join across all of the user's projects, served per project by the
+     * partial index idx_tasks_open_due_date: the lower due-date bound is the
+     * index range start and the OR only filters ties on that first date, so
+     * deep pages stay as cheap as the first.
+     */
+    @Query(RESPONSE + "WHERE t.project.user.id = :userId AND t.completed = false " +
+            "AND t.dueDate >= :afterDueDate AND t.dueDate <= :to " +
+            "AND (t.dueDate > :afterDueDate OR t.id > :afterId) " +
+            "ORDER BY t.dueDate, t.id")
+    List<TaskResponse> findAgenda(@Param("userId") Long userId, @Param("to") LocalDate to,
+                                  @Param("afterDueDate") LocalDate afterDueDate, @Param("afterId") Long afterId,
+                                  Pageable limit);
+
+    @Query(RESPONSE + "WHERE t.project.id = :projectId")
+    List<TaskResponse> findResponsesByProjectId(@Param("projectId") Long projectId);
+
+    @Query(RESPONSE + "WHERE t.id IN :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(RESPONSE + "WHERE t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
 
-    // Filter by title containing text (case-insensitive)
-    @Query("SELECT t FROM Task t WHERE t.project = :project AND LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))")
-    Page<Task> findByProjectAndTitleContainingIgnoreCase(@Param("project") Project project, @Param("title") String title, Pageable pageable);
+    @Query(RESPONSE + "WHERE t.id = :id AND t.project.user.id = :userId")
+    Optional<TaskResponse> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
-    // Combined filter: title and status
-    @Query("SELECT t FROM Task t WHERE t.project = :project AND LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) AND t.completed = :completed")
-    Page<Task> findByProjectAndTitleContainingIgnoreCaseAndCompleted(@Param("project") Project project, @Param("title") String title, @Param("completed") Boolean completed, Pageable pageable);
+    // One statement for a whole batch of coalesced toggles; bumps the version so concurrent editors retry
+    @Modifying
+    @Query("UPDATE Task t SET t.completed = :completed, t.version = t.version + 1 WHERE t.id IN :ids")
+    int updateCompleted(@Param("ids") Collection<Long> ids, @Param("completed") boolean completed);
 }
@@ -0,0 +1,88 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.model.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Building blocks for task queries, composed from a {@link TaskFilter}.
+ *
+ * <p>Every query is anchored on the project id (served by idx_tasks_project_id)
+ * and compares columns directly, never through a function, so completion and
+ * due-date bounds stay sargable. Text matches are case-insensitive substring
+ * matches and run as residual filters over that one project's rows. Values
+ * are always bound as parameters, and a given combination of filters always
+ * produces the same query shape, so the compiled plans are reused from the
+ * Hibernate criteria plan cache and the driver's prepared statement cache.
+ */
+public final class TaskSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(Long projectId, TaskFilter filter) {
+        Specification<Task> spec = inProject(projectId);
+        if (hasText(filter.getTitle())) {
+            spec = spec.and(titleContains(filter.getTitle()));
+        }
+        if (hasText(filter.getDescription())) {
+            spec = spec.and(descriptionContains(filter.getDescription()));
+        }
+        if (filter.getCompleted() != null) {
+            spec = spec.and(completed(filter.getCompleted()));
+        }
+        if (filter.getDueFrom() != null) {
+            spec = spec.and(dueOnOrAfter(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            spec = spec.and(dueOnOrBefore(filter.getDueTo()));
+        }
+        return spec;
+    }
+
+    // Compares the foreign key column; no join to projects
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> completed(boolean completed) {
+        return (root, query, cb) -> cb.equal(root.get("completed"), completed);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    public static Specification<Task> titleContains(String text) {
+        return (root, query, cb) -> containsIgnoreCase(cb, root.get("title"), text);
+    }
+
+    public static Specification<Task> descriptionContains(String text) {
+        return (root, query, cb) -> containsIgnoreCase(cb, root.get("description"), text);
+    }
+
+    private static Predicate containsIgnoreCase(CriteriaBuilder cb, Expression<String> column, String text) {
+        // Wildcards typed by the user match literally
+        String escaped = text.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return cb.like(cb.lower(column), "%" + escaped + "%", LIKE_ESCAPE);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -1,5 +1,7 @@
 package com.taskmanager.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,48 +9,66 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests from the bearer access token alone. The token is
+ * parsed once and the principal is built from its claims; no user lookup is
+ * made. Invalid, expired or revoked tokens leave the request unauthenticated,
+ * which yields 401 for protected endpoints.
+ *
+ * <p>Event streams are opened by the browser's EventSource, which cannot send
+ * headers, so for those GET requests only the token may also be passed as the
+ * {@code access_token} query parameter.
+ */
 @Component
 public class JwtFilter extends OncePerRequestFilter {
-    
+
+    private static final String EVENT_STREAM_SUFFIX = "/tasks/events";
+    private static final String ACCESS_TOKEN_PARAMETER = "access_token";
+
     @Autowired
     private JwtUtil jwtUtil;
-    
+
     @Autowired
-    private UserDetailsService userDetailsService;
-    
+    private TokenRevocationService tokenRevocationService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
-        
+
         final String authorizationHeader = request.getHeader("Authorization");
-        
-        String email = null;
-        String jwt = null;
-        
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            email = jwtUtil.extractEmail(jwt);
-        }
-        
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(email);
-            
-            if (jwtUtil.validateToken(jwt, email)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+                authenticate(request, authorizationHeader.substring(7));
+            } else if (isEventStream(request) && request.getParameter(ACCESS_TOKEN_PARAMETER) != null) {
+                authenticate(request, request.getParameter(ACCESS_TOKEN_PARAMETER));
             }
         }
         chain.doFilter(request, response);
     }
-}
 
+    private static boolean isEventStream(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && request.getRequestURI().endsWith(EVENT_STREAM_SUFFIX);
+    }
+
+    private void authenticate(HttpServletRequest request, String jwt) {
+        try {
+            Claims claims = jwtUtil.parseAccessToken(jwt);
+            if (tokenRevocationService.isRevoked(claims.getId())) {
+                return;
+            }
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    jwtUtil.toPrincipal(claims), null, jwtUtil.extractAuthorities(claims));
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Rejected access token: " + e.getMessage());
+        }
+    }
+}
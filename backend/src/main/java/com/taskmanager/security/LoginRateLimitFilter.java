@@ -0,0 +1,216 @@
+package com.taskmanager.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.config.LifecyclePhases;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles {@code POST /auth/login} and {@code POST /auth/register} per client
+ * IP and per submitted email before any database lookup or password hashing
+ * happens. Rejected requests get {@code 429 Too Many Requests} with a
+ * {@code Retry-After} header.
+ *
+ * <p>Buckets are forgotten when the context stops, so logins made to warm up
+ * a node before a CRaC checkpoint do not count against real clients after
+ * restore.
+ */
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter implements SmartLifecycle {
+
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+    private volatile boolean running = true;
+
+    public LoginRateLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${security.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${security.rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+            @Value("${security.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${security.rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+            @Value("${security.rate-limit.max-keys:100000}") int maxKeys) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute, maxKeys);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute, maxKeys);
+        this.ipRejections = Counter.builder("auth.ratelimit.rejected")
+                .tag("key", "ip")
+                .description("Auth requests rejected by the rate limiter")
+                .register(meterRegistry);
+        this.emailRejections = Counter.builder("auth.ratelimit.rejected")
+                .tag("key", "email")
+                .description("Auth requests rejected by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        ipLimiter.clear();
+        emailLimiter.clear();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return LifecyclePhases.APPLICATION;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getServletPath();
+        return !"/auth/login".equals(path) && !"/auth/register".equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        long ipWait = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (ipWait > 0) {
+            ipRejections.increment();
+            reject(response, ipWait);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        String email = extractEmail(body);
+        if (email != null) {
+            long emailWait = emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+            if (emailWait > 0) {
+                emailRejections.increment();
+                reject(response, emailWait);
+                return;
+            }
+        }
+
+        chain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            // Malformed JSON is rejected by the controller; only the IP limit applies
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain");
+        response.getWriter().write("Too many attempts, please retry later");
+    }
+
+    /**
+     * Replays a request body that the filter has already read.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream source = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return source.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return source.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
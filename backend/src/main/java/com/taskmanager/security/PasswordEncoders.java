@@ -0,0 +1,48 @@
+package com.taskmanager.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the application's {@link PasswordEncoder}. New hashes are written as
+ * {@code {id}hash} with the configured algorithm and cost; stored hashes in any
+ * supported format keep verifying, including legacy unprefixed BCrypt hashes.
+ * {@link PasswordEncoder#upgradeEncoding(String)} reports hashes that use a
+ * different algorithm or a lower BCrypt cost than the current policy.
+ */
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * @param encodingId Algorithm for new hashes: {@value #BCRYPT} or {@value #PBKDF2}
+     * @param bcryptStrength BCrypt log2 work factor (4-31)
+     * @param pbkdf2Iterations PBKDF2-HMAC-SHA256 iteration count
+     * @return A delegating encoder for the given policy
+     */
+    public static PasswordEncoder create(String encodingId, int bcryptStrength, int pbkdf2Iterations) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder(
+                "", 16, pbkdf2Iterations, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalArgumentException("Unsupported password encoder: " + encodingId);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskmanager.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password verification and encoding on a dedicated executor sized to the
+ * number of cores, so a burst of logins or registrations (BCrypt is deliberately
+ * slow) cannot occupy every request thread. The work queue is bounded; when it is full, submissions fail
+ * fast with {@link RejectedExecutionException} instead of queueing without limit.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        Counter rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                (task, pool) -> {
+                    rejectedCounter.increment();
+                    throw new RejectedExecutionException("Password hashing queue is full");
+                });
+
+        this.verifyTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "verify")
+                .description("Time spent verifying (and, if needed, upgrading) or encoding a password hash")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .description("Time spent verifying (and, if needed, upgrading) or encoding a password hash")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing threads currently busy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verifies a raw password against its stored hash on the hashing executor.
+     * When the password matches but the stored hash is weaker than the current
+     * encoder policy, the password is rehashed in the same task.
+     *
+     * @param rawPassword The password supplied by the client
+     * @param encodedPassword The stored password hash
+     * @return A future completed with the verification result
+     * @throws RejectedExecutionException if the hashing queue is full
+     */
+    public CompletableFuture<Verification> verify(String rawPassword, String encodedPassword) {
+        return CompletableFuture.supplyAsync(() -> {
+            Timer.Sample sample = Timer.start();
+            try {
+                if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                    return new Verification(false, null);
+                }
+                String upgradedHash = passwordEncoder.upgradeEncoding(encodedPassword)
+                        ? passwordEncoder.encode(rawPassword)
+                        : null;
+                return new Verification(true, upgradedHash);
+            } finally {
+                sample.stop(verifyTimer);
+            }
+        }, executor);
+    }
+
+    /**
+     * Hashes a new password under the current encoder policy on the hashing
+     * executor.
+     *
+     * @param rawPassword The password supplied by the client
+     * @return A future completed with the encoded password
+     * @throws RejectedExecutionException if the hashing queue is full
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> {
+            Timer.Sample sample = Timer.start();
+            try {
+                return passwordEncoder.encode(rawPassword);
+            } finally {
+                sample.stop(encodeTimer);
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Outcome of a password check.
+     *
+     * @param matches Whether the password matched the stored hash
+     * @param upgradedHash A replacement hash under the current policy, or null if none is needed
+     */
+    public record Verification(boolean matches, String upgradedHash) {
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
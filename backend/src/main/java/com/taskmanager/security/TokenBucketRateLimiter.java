@@ -0,0 +1,114 @@
+package com.taskmanager.security;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free, keyed token bucket. Each key's bucket is a single {@link AtomicLong}
+ * holding its theoretical arrival time (the GCRA formulation of a token
+ * bucket): acquiring a token is one compare-and-set, and no background refill
+ * is needed. Keys are spread over independent shards so that sweeping idle
+ * buckets never touches more than one shard at a time.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int SHARD_COUNT = 16;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeysPerShard;
+    private final LongSupplier nanoClock;
+    private final Shard[] shards;
+
+    /**
+     * @param capacity Maximum burst size (tokens in a full bucket)
+     * @param refillPerMinute Tokens added back per minute
+     * @param maxKeys Number of tracked keys above which idle buckets are swept
+     */
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys) {
+        this(capacity, refillPerMinute, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+        this.emissionIntervalNanos = Duration.ofMinutes(1).toNanos() / refillPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.maxKeysPerShard = Math.max(1, maxKeys / SHARD_COUNT);
+        this.nanoClock = nanoClock;
+        this.shards = new Shard[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @param key The rate-limited identity, e.g. a client IP
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(String key) {
+        Shard shard = shards[shardIndex(key)];
+        long now = nanoClock.getAsLong();
+        AtomicLong arrival = shard.buckets.get(key);
+        if (arrival == null) {
+            shard.sweepIfFull(now);
+            arrival = shard.buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+
+        while (true) {
+            long current = arrival.get();
+            long base = Math.max(current, now);
+            long allowedAt = base - burstToleranceNanos;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (arrival.compareAndSet(current, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Forgets every bucket, as if no key had been seen.
+     */
+    public void clear() {
+        for (Shard shard : shards) {
+            shard.buckets.clear();
+        }
+    }
+
+    int trackedKeys() {
+        int total = 0;
+        for (Shard shard : shards) {
+            total += shard.buckets.size();
+        }
+        return total;
+    }
+
+    private static int shardIndex(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (SHARD_COUNT - 1);
+    }
+
+    private final class Shard {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweepAt = new AtomicLong(Long.MIN_VALUE);
+
+        void sweepIfFull(long now) {
+            long next = nextSweepAt.get();
+            if (buckets.size() < maxKeysPerShard || now < next
+                    || !nextSweepAt.compareAndSet(next, now + emissionIntervalNanos)) {
+                return;
+            }
+            // A bucket whose arrival time has passed is full again, which is
+            // indistinguishable from a bucket that was never created
+            buckets.values().removeIf(arrival -> arrival.get() <= now);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskmanager.security;
+
+import com.taskmanager.config.LifecyclePhases;
+import com.taskmanager.model.RevokedToken;
+import com.taskmanager.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Tracks access tokens revoked before their expiry. Revocations are persisted
+ * so every node sees them; each node keeps them in a {@link RevocationList},
+ * so checking a token that was never revoked (the common case) costs a few
+ * bit probes and never touches the database.
+ *
+ * <p>New revocations from other nodes are picked up incrementally by polling
+ * on {@code revokedAt}. The filter is periodically rebuilt from the exact set
+ * so that expired entries stop occupying bits.
+ *
+ * <p>A node restored from a CRaC checkpoint catches up on the revocations
+ * made since the checkpoint before it serves requests again.
+ */
+@Service
+public class TokenRevocationService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevocationList revocationList;
+    private final Duration pollOverlap;
+    private volatile boolean running = true;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.revocation.expected-entries:100000}") int expectedEntries,
+            @Value("${security.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${security.revocation.poll-overlap-ms:30000}") long pollOverlapMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revocationList = new RevocationList(expectedEntries, falsePositiveRate);
+        this.pollOverlap = Duration.ofMillis(pollOverlapMs);
+
+        Gauge.builder("auth.revocation.entries", revocationList, RevocationList::size)
+                .description("Revoked access tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::remember);
+    }
+
+    @Override
+    public void start() {
+        if (!running) {
+            refresh();
+            running = true;
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return LifecyclePhases.APPLICATION;
+    }
+
+    /**
+     * @return true if the token with this id was revoked and has not expired
+     */
+    public boolean isRevoked(String jti) {
+        return revocationList.isRevoked(jti);
+    }
+
+    /**
+     * Revokes an access token until its natural expiry. Takes effect on this
+     * node immediately and on other nodes at their next refresh.
+     */
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt.isBefore(Instant.now())) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt, Instant.now()));
+        revocationList.add(jti, expiresAt);
+    }
+
+    /**
+     * Pulls revocations recorded since the last poll. The window overlaps the
+     * previous one to tolerate clock skew and late commits on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        Instant now = Instant.now();
+        List<RevokedToken> recent = revokedTokenRepository
+                .findByRevokedAtAfterAndExpiresAtAfter(revocationList.pollFrom(pollOverlap), now);
+        recent.forEach(this::remember);
+    }
+
+    /**
+     * Drops expired entries and rebuilds the filter, which cannot forget keys.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.rebuild-interval-ms:3600000}")
+    @Transactional
+    public void rebuild() {
+        Instant now = Instant.now();
+        revocationList.rebuild(now);
+
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("Purged {} expired token revocations", deleted);
+        }
+    }
+
+    private void remember(RevokedToken token) {
+        revocationList.remember(token.getJti(), token.getExpiresAt(), token.getRevokedAt());
+    }
+}
@@ -2,28 +2,38 @@ package com.taskmanager.service;
 
 import com.taskmanager.dto.ProjectRequest;
 import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.ProjectSummaryResponse;
 import com.taskmanager.dto.ProgressResponse;
+import com.taskmanager.event.ProjectEvent;
 import com.taskmanager.mapper.ProjectMapper;
 import com.taskmanager.model.Project;
-import com.taskmanager.model.Task;
 import com.taskmanager.model.User;
 import com.taskmanager.repository.ProjectRepository;
 import com.taskmanager.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional
 public class ProjectService {
 
+    // Aliases in ProjectRepository#findSummariesByUserId
+    private static final Set<String> SUMMARY_SORT_PROPERTIES =
+            Set.of("id", "title", "totalTasks", "completedTasks", "progress");
+    private static final int MAX_SUMMARY_PAGE_SIZE = 100;
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -33,68 +43,102 @@ public class ProjectService {
     @Autowired
     private ProjectMapper projectMapper;
 
-    public ProjectResponse createProject(String userEmail, ProjectRequest request) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskToggleCoalescer toggleCoalescer;
+
+    public ProjectResponse createProject(Long userId, ProjectRequest request) {
+        // Only the foreign key is needed; no SELECT on users
+        User user = userRepository.getReferenceById(userId);
 
         Project project = projectMapper.toEntity(request, user);
         Project saved = projectRepository.save(project);
-        return projectMapper.toResponse(saved);
+        ProjectResponse response = projectMapper.toResponse(saved);
+        eventPublisher.publishEvent(ProjectEvent.of(ProjectEvent.Type.CREATED, userId, response));
+        return response;
     }
 
-    public List<ProjectResponse> getUserProjects(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    public List<ProjectResponse> getUserProjects(Long userId) {
+        return projectRepository.findResponsesByUserId(userId);
+    }
 
-        List<Project> projects = projectRepository.findByUser(user);
-        return projectMapper.toResponseList(projects);
+    // Only the requested columns are selected, e.g. fields=title for a project picker
+    public List<Map<String, Object>> getUserProjectFields(Long userId, Set<String> fields) {
+        return projectRepository.findFieldsByUserId(userId, fields);
     }
 
-    public Page<ProjectResponse> getUserProjectsPaginated(String userEmail, Pageable pageable) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    public Page<ProjectResponse> getUserProjectsPaginated(Long userId, Pageable pageable) {
+        return projectRepository.findResponsesByUserId(userId, pageable);
+    }
 
-        Page<Project> projects = projectRepository.findByUser(user, pageable);
-        return projects.map(projectMapper::toResponse);
+    public Page<Map<String, Object>> getUserProjectFieldsPaginated(Long userId, Pageable pageable, Set<String> fields) {
+        return projectRepository.findFieldsByUserId(userId, pageable, fields);
     }
 
-    public ProjectResponse getProjectById(String userEmail, Long projectId) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    /**
+     * Lists the user's projects with their task counts in one query, for
+     * screens that would otherwise fetch each project's progress separately.
+     */
+    public Page<ProjectSummaryResponse> getUserProjectSummaries(Long userId, Pageable pageable) {
+        if (pageable.getPageSize() > MAX_SUMMARY_PAGE_SIZE) {
+            throw new RuntimeException("Page size must be between 1 and " + MAX_SUMMARY_PAGE_SIZE);
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SUMMARY_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new RuntimeException("Unsupported sort property: " + order.getProperty());
+            }
+        }
+        // Ties (e.g. equal progress) are broken by id so pages do not overlap
+        if (pageable.getSort().getOrderFor("id") == null) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    pageable.getSort().and(Sort.by("id")));
+        }
+        toggleCoalescer.flushUser(userId);
+
+        return projectRepository.findSummariesByUserId(userId, pageable)
+                .map(projectMapper::toSummaryResponse);
+    }
 
-        Project project = projectRepository.findByIdAndUser(projectId, user)
+    public ProjectResponse getProjectById(Long userId, Long projectId) {
+        Project project = projectRepository.findByIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
 
         return projectMapper.toResponse(project);
     }
 
-    public Project getProjectEntity(String userEmail, Long projectId) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-        return projectRepository.findByIdAndUser(projectId, user)
+    public Project getProjectEntity(Long userId, Long projectId) {
+        return projectRepository.findByIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
     }
 
-    public ResponseEntity<?> getProjectProgress(String userEmail, Long projectId) {
-        Project project = getProjectEntity(userEmail, projectId);
+    public ResponseEntity<?> getProjectProgress(Long userId, Long projectId) {
+        getProjectEntity(userId, projectId);
+        toggleCoalescer.flushProject(projectId);
+
+        // Counted in the database; the project's tasks are not loaded
+        return ResponseEntity.ok(toProgress(projectRepository.countTasksByProjectId(projectId)));
+    }
 
-        List<Task> tasks = project.getTasks();
-        int totalTasks = tasks.size();
-        int completedTasks = (int) tasks.stream()
-                .filter(Task::isCompleted)
-                .count();
+    /**
+     * Task totals and progress across all of the user's projects, for the
+     * dashboard.
+     */
+    public ProgressResponse getUserProgress(Long userId) {
+        toggleCoalescer.flushUser(userId);
+
+        return toProgress(projectRepository.countTasksByUserId(userId));
+    }
+
+    private static ProgressResponse toProgress(ProjectRepository.TaskCounts counts) {
+        int totalTasks = (int) counts.getTotalTasks();
+        int completedTasks = (int) counts.getCompletedTasks();
 
         double progressPercentage = totalTasks > 0
                 ? (double) completedTasks / totalTasks * 100
                 : 0.0;
 
-        ProgressResponse response = new ProgressResponse(
-                totalTasks,
-                completedTasks,
-                progressPercentage
-        );
-
-        return ResponseEntity.ok(response);
+        return new ProgressResponse(totalTasks, completedTasks, progressPercentage);
     }
 }
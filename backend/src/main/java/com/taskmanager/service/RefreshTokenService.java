@@ -0,0 +1,122 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.RefreshToken;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Issues and rotates opaque refresh tokens. Every refresh revokes the
+ * presented token and issues a new one; presenting an already revoked token
+ * means it was copied, so all of the user's refresh tokens are revoked.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
+    /**
+     * Creates a refresh token for a user who just authenticated.
+     *
+     * @return The raw token; only its hash is persisted
+     */
+    public String issue(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(rawToken));
+        refreshToken.setUser(user);
+        refreshToken.setExpiresAt(Instant.now().plus(Duration.ofMillis(refreshExpiration)));
+        refreshTokenRepository.save(refreshToken);
+
+        return rawToken;
+    }
+
+    /**
+     * Exchanges a refresh token for a new one.
+     *
+     * @return The token's user and its replacement, or empty if the token is
+     *         unknown, expired or already used
+     */
+    public Optional<Rotation> rotate(String rawToken) {
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken current = found.get();
+        User user = current.getUser();
+        if (current.isRevoked() || refreshTokenRepository.revokeIfActive(current.getId()) == 0) {
+            log.warn("Refresh token reuse detected for user {}, revoking all sessions", user.getId());
+            refreshTokenRepository.revokeAllForUser(user.getId());
+            return Optional.empty();
+        }
+        if (current.getExpiresAt().isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new Rotation(user, issue(user)));
+    }
+
+    /**
+     * Revokes a refresh token on logout. Unknown tokens are ignored.
+     */
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeIfActive(token.getId()));
+    }
+
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Result of a successful refresh.
+     *
+     * @param user The token owner
+     * @param refreshToken The replacement refresh token
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.service;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retries a transactional service method when its commit loses an
+ * optimistic-lock race. Each attempt re-reads the entity in a new
+ * transaction. The jittered exponential backoff stops retries from
+ * colliding again. Tuned with {@code tasks.optimistic-retry.*}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${tasks.optimistic-retry.max-attempts:5}",
+        backoff = @Backoff(delayExpression = "${tasks.optimistic-retry.initial-backoff-ms:5}",
+                maxDelayExpression = "${tasks.optimistic-retry.max-backoff-ms:100}", multiplier = 2, random = true))
+public @interface RetryOnVersionConflict {
+}
@@ -1,23 +1,43 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.AgendaResponse;
+import com.taskmanager.dto.TaskFilter;
 import com.taskmanager.dto.TaskRequest;
 import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.event.TaskEvent;
+import com.taskmanager.mapper.TaskJsonCache;
 import com.taskmanager.mapper.TaskMapper;
 import com.taskmanager.model.Project;
 import com.taskmanager.model.Task;
 import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSpecifications;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional
 public class TaskService {
 
+    // Columns a task listing may be sorted by
+    private static final Set<String> TASK_SORT_PROPERTIES = Set.of("id", "title", "dueDate", "completed");
+    private static final int MAX_AGENDA_PAGE_SIZE = 200;
+    // Lower bound when the agenda includes everything overdue
+    private static final LocalDate EARLIEST_DUE_DATE = LocalDate.of(1, 1, 1);
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -27,78 +47,227 @@ public class TaskService {
     @Autowired
     private TaskMapper taskMapper;
 
-    public TaskResponse createTask(String userEmail, Long projectId, TaskRequest request) {
-        Project project = projectService.getProjectEntity(userEmail, projectId);
+    // Events are delivered to TaskEventBus only once the transaction commits
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Pending coalesced toggles are flushed before reads and other writes
+    @Autowired
+    private TaskToggleCoalescer toggleCoalescer;
+
+    @Autowired
+    private TaskJsonCache taskJsonCache;
+
+    public TaskResponse createTask(Long userId, Long projectId, TaskRequest request) {
+        Project project = projectService.getProjectEntity(userId, projectId);
 
         Task task = taskMapper.toEntity(request, project);
         Task saved = taskRepository.save(task);
-        return taskMapper.toResponse(saved);
+        TaskResponse response = taskMapper.toResponse(saved);
+        eventPublisher.publishEvent(TaskEvent.of(TaskEvent.Type.CREATED, response));
+        return response;
     }
 
-    public List<TaskResponse> getProjectTasks(String userEmail, Long projectId) {
-        Project project = projectService.getProjectEntity(userEmail, projectId);
+    public List<TaskResponse> getProjectTasks(Long userId, Long projectId) {
+        projectService.getProjectEntity(userId, projectId);
+        toggleCoalescer.flushProject(projectId);
 
-        List<Task> tasks = taskRepository.findByProject(project);
-        return taskMapper.toResponseList(tasks);
+        return taskRepository.findResponsesByProjectId(projectId);
     }
 
-    public Page<TaskResponse> getProjectTasksPaginated(String userEmail, Long projectId, Pageable pageable, String title, Boolean completed) {
-        Project project = projectService.getProjectEntity(userEmail, projectId);
+    /**
+     * Like {@link #getProjectTasks}, as cached JSON fragments ordered by id:
+     * reads the tasks' ids and versions, and full rows only for tasks whose
+     * cached encoding is missing or outdated.
+     */
+    public List<?> getProjectTasksJson(Long userId, Long projectId) {
+        if (!taskJsonCache.isEnabled()) {
+            return getProjectTasks(userId, projectId);
+        }
+        projectService.getProjectEntity(userId, projectId);
+        toggleCoalescer.flushProject(projectId);
+
+        return taskJsonCache.toJson(taskRepository.findVersions(TaskSpecifications.inProject(projectId), Sort.by("id")),
+                taskRepository::findResponsesByIdIn);
+    }
 
-        Page<Task> tasks;
+    /**
+     * Lists a project's tasks with only the requested fields, ordered by id.
+     * Unselected columns are left out of the query as well as the response.
+     */
+    public List<Map<String, Object>> getProjectTaskFields(Long userId, Long projectId, Set<String> fields) {
+        projectService.getProjectEntity(userId, projectId);
+        toggleCoalescer.flushProject(projectId);
 
-        if (title != null && !title.trim().isEmpty() && completed != null) {
-            // Filter by both title and completion status
-            tasks = taskRepository.findByProjectAndTitleContainingIgnoreCaseAndCompleted(project, title, completed, pageable);
-        } else if (title != null && !title.trim().isEmpty()) {
-            // Filter by title only
-            tasks = taskRepository.findByProjectAndTitleContainingIgnoreCase(project, title, pageable);
-        } else if (completed != null) {
-            // Filter by completion status only
-            tasks = taskRepository.findByProjectAndCompleted(project, completed, pageable);
-        } else {
-            // No filters, return all tasks
-            tasks = taskRepository.findByProject(project, pageable);
+        return taskRepository.findFields(TaskSpecifications.inProject(projectId), Sort.by("id"), fields);
+    }
+
+    /**
+     * Pages through a project's tasks matching the filter. Only whitelisted
+     * sort properties are accepted, so a request cannot force a sort on an
+     * arbitrary column; id is appended as a tiebreaker so pages do not
+     * overlap.
+     */
+    public Page<TaskResponse> getProjectTasksPaginated(Long userId, Long projectId, Pageable pageable, TaskFilter filter) {
+        pageable = checkListing(pageable, filter);
+        projectService.getProjectEntity(userId, projectId);
+        toggleCoalescer.flushProject(projectId);
+
+        return taskRepository.findResponses(TaskSpecifications.matching(projectId, filter), pageable);
+    }
+
+    /**
+     * Like {@link #getProjectTasksPaginated}, as cached JSON fragments; see
+     * {@link #getProjectTasksJson}.
+     */
+    public Page<?> getProjectTasksJsonPaginated(Long userId, Long projectId, Pageable pageable, TaskFilter filter) {
+        if (!taskJsonCache.isEnabled()) {
+            return getProjectTasksPaginated(userId, projectId, pageable, filter);
+        }
+        pageable = checkListing(pageable, filter);
+        projectService.getProjectEntity(userId, projectId);
+        toggleCoalescer.flushProject(projectId);
+
+        return taskJsonCache.toJson(taskRepository.findVersions(TaskSpecifications.matching(projectId, filter), pageable),
+                taskRepository::findResponsesByIdIn);
+    }
+
+    /**
+     * Like {@link #getProjectTasksPaginated}, with only the requested fields.
+     */
+    public Page<Map<String, Object>> getProjectTaskFieldsPaginated(Long userId, Long projectId, Pageable pageable,
+                                                                   TaskFilter filter, Set<String> fields) {
+        pageable = checkListing(pageable, filter);
+        projectService.getProjectEntity(userId, projectId);
+        toggleCoalescer.flushProject(projectId);
+
+        return taskRepository.findFields(TaskSpecifications.matching(projectId, filter), pageable, fields);
+    }
+
+    private static Pageable checkListing(Pageable pageable, TaskFilter filter) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!TASK_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new RuntimeException("Unsupported sort property: " + order.getProperty());
+            }
+        }
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new RuntimeException("dueFrom must not be after dueTo");
         }
+        if (pageable.getSort().getOrderFor("id") == null) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    pageable.getSort().and(Sort.by("id")));
+        }
+        return pageable;
+    }
+
+    /**
+     * Lists the user's open tasks due on or before {@code to} across all of
+     * their projects, earliest first. Overdue tasks are included unless
+     * {@code from} is given. Pages are keyset-based: pass the previous
+     * response's cursor to continue, with the same {@code to}.
+     */
+    // Not read-only: pending toggles are written in this transaction before the query
+    public AgendaResponse getAgenda(Long userId, LocalDate from, LocalDate to, String cursor, int size) {
+        if (size < 1 || size > MAX_AGENDA_PAGE_SIZE) {
+            throw new RuntimeException("Page size must be between 1 and " + MAX_AGENDA_PAGE_SIZE);
+        }
+        LocalDate afterDueDate = from != null ? from.minusDays(1) : EARLIEST_DUE_DATE;
+        Long afterId = Long.MAX_VALUE;
+        if (cursor != null) {
+            String[] position = decodeCursor(cursor);
+            afterDueDate = LocalDate.parse(position[0]);
+            afterId = Long.parseLong(position[1]);
+        }
+        toggleCoalescer.flushUser(userId);
+
+        // One extra row tells whether there is a next page
+        List<TaskResponse> tasks = taskRepository.findAgenda(userId, to, afterDueDate, afterId,
+                PageRequest.of(0, size + 1));
+        String nextCursor = null;
+        if (tasks.size() > size) {
+            tasks = tasks.subList(0, size);
+            TaskResponse last = tasks.get(size - 1);
+            nextCursor = encodeCursor(last.getDueDate(), last.getId());
+        }
+        return new AgendaResponse(tasks, nextCursor);
+    }
+
+    private static String encodeCursor(LocalDate dueDate, Long taskId) {
+        String position = dueDate + "," + taskId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (position.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            LocalDate.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid agenda cursor");
+        }
+    }
 
-        return tasks.map(taskMapper::toResponse);
+    @RetryOnVersionConflict
+    public TaskResponse completeTask(Long userId, Long taskId) {
+        return setTaskCompletion(userId, taskId, true);
     }
 
-    public TaskResponse completeTask(String userEmail, Long taskId) {
-        Task task = getTaskEntity(userEmail, taskId);
-        taskMapper.markCompleted(task);
+    /**
+     * Sets a task's completion state. Idempotent: repeating the call, or
+     * racing another request that already set the same state, changes
+     * nothing and publishes no event.
+     */
+    @RetryOnVersionConflict
+    public TaskResponse setTaskCompletion(Long userId, Long taskId, boolean completed) {
+        toggleCoalescer.flushTask(taskId);
+        Task task = getTaskEntity(userId, taskId);
+        if (task.isCompleted() == completed) {
+            return taskMapper.toResponse(task);
+        }
+        if (completed) {
+            taskMapper.markCompleted(task);
+        } else {
+            taskMapper.markIncomplete(task);
+        }
         Task updated = taskRepository.save(task);
-        return taskMapper.toResponse(updated);
+        TaskResponse response = taskMapper.toResponse(updated);
+        eventPublisher.publishEvent(TaskEvent.of(completed ? TaskEvent.Type.COMPLETED : TaskEvent.Type.REOPENED,
+                response));
+        return response;
     }
 
-    public TaskResponse toggleTaskCompletion(String userEmail, Long taskId) {
-        Task task = getTaskEntity(userEmail, taskId);
+    /**
+     * Flips a task's completion state. Concurrent toggles are detected by the
+     * version check at commit and retried on fresh state, so none is lost.
+     */
+    @RetryOnVersionConflict
+    public TaskResponse toggleTaskCompletion(Long userId, Long taskId) {
+        toggleCoalescer.flushTask(taskId);
+        Task task = getTaskEntity(userId, taskId);
         if (task.isCompleted()) {
             taskMapper.markIncomplete(task);
         } else {
             taskMapper.markCompleted(task);
         }
         Task updated = taskRepository.save(task);
-        return taskMapper.toResponse(updated);
+        TaskResponse response = taskMapper.toResponse(updated);
+        eventPublisher.publishEvent(TaskEvent.of(TaskEvent.Type.TOGGLED, response));
+        return response;
     }
 
-    public void deleteTask(String userEmail, Long taskId) {
-        Task task = getTaskEntity(userEmail, taskId);
+    public void deleteTask(Long userId, Long taskId) {
+        toggleCoalescer.flushTask(taskId);
+        Task task = getTaskEntity(userId, taskId);
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskEvent.deleted(task.getProject().getId(), taskId));
     }
 
-    private Task getTaskEntity(String userEmail, Long taskId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
-
-        Project project = projectService.getProjectEntity(userEmail, task.getProject().getId());
-
-        if (!task.getProject().getId().equals(project.getId())) {
-            throw new RuntimeException("Task does not belong to user's project");
-        }
-
-        return task;
+    private Task getTaskEntity(Long userId, Long taskId) {
+        return taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new RuntimeException("Task not found or access denied"));
     }
-
-
 }
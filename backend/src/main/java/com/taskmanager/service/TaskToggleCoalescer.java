@@ -0,0 +1,378 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.LifecyclePhases;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.event.TaskEvent;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Optional write-behind mode for task toggles. Rapid checkbox clicks on the
+ * same task are merged in memory and written together, one batched
+ * {@code UPDATE} per completion state, instead of one transaction per click.
+ * A task toggled back to where it started is not written at all.
+ *
+ * <p>Per-task state is guarded by striped locks, so toggles on different
+ * tasks rarely contend. Reads of a project's tasks or progress, and other
+ * writes to a task, flush its pending toggles first, so the acting user
+ * always reads their own writes on this node. Such a flush joins the
+ * caller's transaction, so a request never needs a second pooled connection,
+ * and flushes of different projects run in parallel. Toggles written in a
+ * transaction that rolls back are pending again afterwards. Other nodes and
+ * the reactive gateway see a toggle once the transaction that wrote it has
+ * committed.
+ *
+ * <p>Durability bound: an acknowledged toggle stays in memory for up to
+ * {@code tasks.toggle-coalescing.max-delay-ms} (plus the time the flush
+ * takes) and is lost if the node crashes in that window. Pending toggles are
+ * flushed on graceful shutdown and before a CRaC checkpoint.
+ */
+@Component
+public class TaskToggleCoalescer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskToggleCoalescer.class);
+    private static final int STRIPES = 64;
+
+    /**
+     * The merged state of one task's toggles since its last flush.
+     */
+    private static final class Pending {
+
+        private final Long userId;
+        private final TaskResponse base;
+        private boolean completed;
+
+        private Pending(Long userId, TaskResponse base) {
+            this.userId = userId;
+            this.base = base;
+            this.completed = base.isCompleted();
+        }
+
+        private boolean unchanged() {
+            return completed == base.isCompleted();
+        }
+
+        private Pending withTarget(Pending newer) {
+            Pending merged = new Pending(userId, base);
+            merged.completed = newer.completed;
+            return merged;
+        }
+
+        private TaskResponse current() {
+            return new TaskResponse(base.getId(), base.getTitle(), base.getDescription(), base.getDueDate(), completed,
+                    base.getProjectId());
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final Object[] stripes = new Object[STRIPES];
+    private final Object[] projectStripes = new Object[STRIPES];
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    // Written by a flush that has not committed yet; new toggles build on this state, not the database's
+    private final ConcurrentHashMap<Long, Pending> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong flushGeneration = new AtomicLong();
+    private volatile boolean running = true;
+
+    private final Counter coalescedCounter;
+    private final Counter flushedCounter;
+
+    public TaskToggleCoalescer(
+            TaskRepository taskRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.toggle-coalescing.enabled:false}") boolean enabled) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        // Flushes triggered by a read or write run in that request's transaction, ahead of its own queries
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        this.enabled = enabled;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+            projectStripes[i] = new Object();
+        }
+
+        this.coalescedCounter = Counter.builder("tasks.toggles.coalesced")
+                .description("Task toggles merged into an earlier pending toggle instead of written separately")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("tasks.toggles.flushed")
+                .description("Task completion states written by the toggle coalescer")
+                .register(meterRegistry);
+        Gauge.builder("tasks.toggles.pending", pending, Map::size)
+                .description("Tasks with toggles not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Toggles a task's completion in memory.
+     *
+     * @return the task as the acting user will read it
+     */
+    public TaskResponse toggle(Long userId, Long taskId) {
+        while (true) {
+            long generation = flushGeneration.get();
+            synchronized (stripe(taskId)) {
+                TaskResponse merged = toggleKnown(userId, taskId);
+                if (merged != null) {
+                    return merged;
+                }
+            }
+
+            // First toggle since the last flush: read the current state outside the lock
+            TaskResponse current = taskRepository.findResponseByIdAndUserId(taskId, userId)
+                    .orElseThrow(() -> new RuntimeException("Task not found or access denied"));
+
+            synchronized (stripe(taskId)) {
+                if (pending.containsKey(taskId) || inFlight.containsKey(taskId)
+                        || flushGeneration.get() != generation) {
+                    // Raced with another toggle or a flush; what was read may be stale
+                    continue;
+                }
+                Pending entry = new Pending(userId, current);
+                entry.completed = !entry.completed;
+                pending.put(taskId, entry);
+                return entry.current();
+            }
+        }
+    }
+
+    /**
+     * Applies a toggle on top of a pending or in-flight state, if there is
+     * one. Must hold the task's stripe lock.
+     */
+    private TaskResponse toggleKnown(Long userId, Long taskId) {
+        Pending entry = pending.get(taskId);
+        if (entry == null) {
+            Pending writing = inFlight.get(taskId);
+            if (writing == null) {
+                return null;
+            }
+            checkOwner(writing, userId);
+            entry = new Pending(userId, writing.current());
+            pending.put(taskId, entry);
+        } else {
+            checkOwner(entry, userId);
+            coalescedCounter.increment();
+        }
+
+        entry.completed = !entry.completed;
+        return entry.current();
+    }
+
+    private static void checkOwner(Pending entry, Long userId) {
+        if (!entry.userId.equals(userId)) {
+            throw new RuntimeException("Task not found or access denied");
+        }
+    }
+
+    /**
+     * Writes every pending toggle. Runs at least once per durability bound.
+     */
+    @Scheduled(fixedDelayString = "${tasks.toggle-coalescing.max-delay-ms:200}")
+    public void flush() {
+        flush(entry -> true);
+    }
+
+    /**
+     * Writes the pending toggles of one project's tasks, so a read that
+     * follows sees them.
+     */
+    public void flushProject(Long projectId) {
+        flush(entry -> entry.base.getProjectId().equals(projectId));
+    }
+
+    /**
+     * Writes the pending toggles of every task a user owns, before a read
+     * across all of their projects.
+     */
+    public void flushUser(Long userId) {
+        flush(entry -> entry.userId.equals(userId));
+    }
+
+    /**
+     * Writes a task's pending toggle before another write to it.
+     */
+    public void flushTask(Long taskId) {
+        flush(entry -> entry.base.getId().equals(taskId));
+    }
+
+    /**
+     * Writes every pending toggle before the connection pool goes away, at
+     * shutdown or before a CRaC checkpoint; none may be captured in the image.
+     */
+    @Override
+    public void stop() {
+        flush();
+        running = false;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return LifecyclePhases.APPLICATION;
+    }
+
+    private void flush(Predicate<Pending> filter) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Set<Long> projectIds = new TreeSet<>();
+        for (Pending entry : pending.values()) {
+            if (filter.test(entry)) {
+                projectIds.add(entry.base.getProjectId());
+            }
+        }
+        // One project at a time, so a flush only waits for flushes of the same project
+        for (Long projectId : projectIds) {
+            synchronized (projectStripe(projectId)) {
+                Map<Long, Pending> batch = take(filter.and(entry -> entry.base.getProjectId().equals(projectId)));
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the matching pending toggles to in-flight; toggles that cancel
+     * out are dropped.
+     */
+    private Map<Long, Pending> take(Predicate<Pending> filter) {
+        Map<Long, Pending> batch = new HashMap<>();
+        for (Long taskId : pending.keySet()) {
+            synchronized (stripe(taskId)) {
+                Pending entry = pending.get(taskId);
+                if (entry != null && filter.test(entry)) {
+                    pending.remove(taskId);
+                    // Toggled back to where it started: nothing to write
+                    if (!entry.unchanged()) {
+                        inFlight.put(taskId, entry);
+                        batch.put(taskId, entry);
+                    }
+                }
+            }
+        }
+        return batch;
+    }
+
+    private void writeBatch(Map<Long, Pending> batch) {
+        boolean joined = TransactionSynchronizationManager.isActualTransactionActive();
+        boolean[] settledByTransaction = {false};
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Registered before writing, so a failed write is settled on rollback too
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int completionStatus) {
+                            settle(batch, completionStatus == STATUS_COMMITTED);
+                        }
+                    });
+                    settledByTransaction[0] = true;
+                }
+                write(batch);
+            });
+            if (!settledByTransaction[0]) {
+                settle(batch, true);
+            }
+        } catch (RuntimeException e) {
+            if (!settledByTransaction[0]) {
+                settle(batch, false);
+            }
+            if (joined) {
+                // The caller's transaction cannot continue after a failed statement
+                throw e;
+            }
+            log.warn("Failed to write {} coalesced task toggles, retrying on the next flush: {}", batch.size(),
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Ends a batch's in-flight state once its transaction has completed. An
+     * unwritten batch becomes pending again for the next flush.
+     */
+    private void settle(Map<Long, Pending> batch, boolean written) {
+        for (Map.Entry<Long, Pending> entry : batch.entrySet()) {
+            synchronized (stripe(entry.getKey())) {
+                if (!written) {
+                    // A newer toggle built on the unwritten state keeps its target over the original base
+                    pending.merge(entry.getKey(), entry.getValue(),
+                            (newer, failed) -> failed.withTarget(newer));
+                }
+                inFlight.remove(entry.getKey());
+            }
+        }
+        if (written) {
+            flushedCounter.increment(batch.size());
+        }
+        flushGeneration.incrementAndGet();
+    }
+
+    private void write(Map<Long, Pending> batch) {
+        List<Long> completed = new ArrayList<>();
+        List<Long> incomplete = new ArrayList<>();
+        batch.forEach((taskId, entry) -> (entry.completed ? completed : incomplete).add(taskId));
+        if (!completed.isEmpty()) {
+            taskRepository.updateCompleted(completed, true);
+        }
+        if (!incomplete.isEmpty()) {
+            taskRepository.updateCompleted(incomplete, false);
+        }
+
+        // Reloaded so tasks deleted in the meantime publish nothing
+        for (TaskResponse task : taskRepository.findResponsesByIdIn(batch.keySet())) {
+            eventPublisher.publishEvent(TaskEvent.of(TaskEvent.Type.TOGGLED, task));
+        }
+    }
+
+    private Object stripe(Long taskId) {
+        return stripes[Long.hashCode(taskId) & (STRIPES - 1)];
+    }
+
+    private Object projectStripe(Long projectId) {
+        return projectStripes[Long.hashCode(projectId) & (STRIPES - 1)];
+    }
+}
@@ -6,6 +6,7 @@ import com.taskmanager.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -26,12 +27,24 @@ public class UserService {
         return passwordEncoder.matches(rawPassword, encodedPassword);
     }
 
+    /**
+     * Replaces a user's stored hash with one that is already encoded, e.g. a
+     * rehash under the current password policy after a successful login.
+     */
+    @Transactional
+    public void updatePasswordHash(Long userId, String encodedPassword) {
+        userRepository.updatePassword(userId, encodedPassword);
+    }
+
+    /**
+     * Saves a user whose password is already encoded; hashing runs on
+     * {@code PasswordHashingService}, not the calling thread.
+     */
     public User save(User user) {
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
         return userRepository.save(user);
     }
 
-    public User registerUser(RegisterRequest request) {
+    public User registerUser(RegisterRequest request, String encodedPassword) {
         // Check if user already exists
         if (userRepository.findByEmail(request.getEmail()).isPresent()) {
             throw new RuntimeException("User with email " + request.getEmail() + " already exists");
@@ -40,7 +53,7 @@ public class UserService {
         // Create new user
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(request.getPassword()); // Will be encoded in save method
+        user.setPassword(encodedPassword);
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
 
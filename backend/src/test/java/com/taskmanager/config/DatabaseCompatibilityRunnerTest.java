@@ -0,0 +1,106 @@
+package com.taskmanager.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseCompatibilityRunnerTest {
+
+    private static final String VERSION_QUERY = "SELECT version FROM schema_state WHERE id = 1";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DatabaseCompatibilityRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new DatabaseCompatibilityRunner(jdbcTemplate, transactionManager,
+                "jdbc:postgresql://localhost:5432/taskmanager");
+    }
+
+    @Test
+    void run_WithCurrentSchemaVersion_ShouldOnlyReadVersion() {
+        // Given
+        when(jdbcTemplate.queryForList(VERSION_QUERY, Integer.class))
+                .thenReturn(List.of(DatabaseCompatibilityRunner.SCHEMA_VERSION));
+
+        // When
+        runner.run(null);
+
+        // Then
+        verify(jdbcTemplate).queryForList(VERSION_QUERY, Integer.class);
+        verifyNoMoreInteractions(jdbcTemplate);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void run_WithoutSchemaState_ShouldMigrateUnderLockAndRecordVersion() {
+        // Given
+        when(jdbcTemplate.queryForList(VERSION_QUERY, Integer.class))
+                .thenThrow(new BadSqlGrammarException("version", VERSION_QUERY, new SQLException("no table")))
+                .thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(startsWith("SELECT to_regclass"), eq(Boolean.class), anyString()))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForList(startsWith("SELECT column_name"), eq(String.class)))
+                .thenReturn(List.of("first_name", "last_name"));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*)"), eq(Integer.class), anyString()))
+                .thenReturn(0);
+
+        // When
+        runner.run(null);
+
+        // Then
+        var order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).execute(startsWith("SELECT pg_advisory_xact_lock"));
+        order.verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS schema_state"));
+        order.verify(jdbcTemplate).execute(startsWith("CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date"));
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO schema_state"),
+                eq(DatabaseCompatibilityRunner.SCHEMA_VERSION));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE"));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void run_WhenAnotherNodeMigratedWhileWaitingForLock_ShouldNotMigrateAgain() {
+        // Given
+        when(jdbcTemplate.queryForList(VERSION_QUERY, Integer.class))
+                .thenReturn(List.of())
+                .thenReturn(List.of(DatabaseCompatibilityRunner.SCHEMA_VERSION));
+
+        // When
+        runner.run(null);
+
+        // Then
+        verify(jdbcTemplate).execute(startsWith("SELECT pg_advisory_xact_lock"));
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class), any(Object[].class));
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO schema_state"), any(Object[].class));
+    }
+
+    @Test
+    void run_OnNonPostgresDatabase_ShouldSkipEntirely() {
+        // Given
+        runner = new DatabaseCompatibilityRunner(jdbcTemplate, transactionManager, "jdbc:h2:mem:test");
+
+        // When
+        runner.run(null);
+
+        // Then
+        verifyNoInteractions(jdbcTemplate, transactionManager);
+    }
+}
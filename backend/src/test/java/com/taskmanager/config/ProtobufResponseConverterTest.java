@@ -0,0 +1,143 @@
+package com.taskmanager.config;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.ProjectSummaryResponse;
+import com.taskmanager.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProtobufResponseConverterTest {
+
+    private final ProtobufResponseConverter converter = new ProtobufResponseConverter();
+
+    @Test
+    void write_Page_ShouldEncodeRowsAndPageFields() throws Exception {
+        // Given
+        TaskResponse task = new TaskResponse(7L, "Task", "Description", LocalDate.of(2025, 1, 31), true, 3L);
+        PageImpl<TaskResponse> page = new PageImpl<>(List.of(task), PageRequest.of(1, 1), 5);
+
+        // When
+        CodedInputStream in = CodedInputStream.newInstance(encode(page));
+
+        // Then
+        assertEquals(tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED), in.readTag());
+        int limit = in.pushLimit(in.readRawVarint32());
+        assertEquals(7L, readInt64(in, 1));
+        assertEquals("Task", readString(in, 2));
+        assertEquals("Description", readString(in, 3));
+        assertEquals("2025-01-31", readString(in, 4));
+        assertEquals(tag(5, WireFormat.WIRETYPE_VARINT), in.readTag());
+        assertTrue(in.readBool());
+        assertEquals(3L, readInt64(in, 6));
+        assertEquals(0, in.readTag());
+        in.popLimit(limit);
+        assertEquals(1L, readInt64(in, 2));
+        assertEquals(1L, readInt64(in, 3));
+        assertEquals(5L, readInt64(in, 4));
+        assertEquals(5L, readInt64(in, 5));
+        assertTrue(in.isAtEnd());
+    }
+
+    @Test
+    void write_ShouldLeaveDefaultValuesOffTheWire() throws Exception {
+        // Given
+        ProjectResponse project = new ProjectResponse();
+        project.setId(2L);
+        project.setTitle("Project");
+
+        // When
+        CodedInputStream in = CodedInputStream.newInstance(encode(project));
+
+        // Then
+        assertEquals(2L, readInt64(in, 1));
+        assertEquals("Project", readString(in, 2));
+        assertTrue(in.isAtEnd());
+    }
+
+    @Test
+    void write_SparseRows_ShouldUseSchemaFieldNumbers() throws Exception {
+        // Given
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 4L);
+        row.put("dueDate", LocalDate.of(2025, 2, 1));
+
+        // When
+        CodedInputStream in = CodedInputStream.newInstance(encode(new ArrayList<>(List.of(row))));
+
+        // Then
+        assertEquals(tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED), in.readTag());
+        in.readRawVarint32();
+        assertEquals(4L, readInt64(in, 1));
+        assertEquals("2025-02-01", readString(in, 4));
+        assertTrue(in.isAtEnd());
+    }
+
+    @Test
+    void write_UnknownField_ShouldThrowNotWritable() {
+        // Given
+        List<Map<String, Object>> rows = List.of(Map.of("owner", "someone"));
+
+        // When & Then
+        assertThrows(HttpMessageNotWritableException.class, () -> encode(rows));
+    }
+
+    @Test
+    void canReadAndWrite_ShouldOnlyWriteSupportedTypes() {
+        // When & Then
+        assertFalse(converter.canRead(TaskResponse.class, ProtobufResponseConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(TaskResponse.class, ProtobufResponseConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(String.class, ProtobufResponseConverter.APPLICATION_PROTOBUF));
+    }
+
+    @Test
+    void canWrite_ShouldCheckDeclaredRowType() {
+        // Given
+        ResolvableType summaries = ResolvableType.forClassWithGenerics(Page.class, ProjectSummaryResponse.class);
+        ResolvableType tasks = ResolvableType.forClassWithGenerics(Page.class, TaskResponse.class);
+        ResolvableType sparseRows = ResolvableType.forClassWithGenerics(List.class,
+                ResolvableType.forClassWithGenerics(Map.class, String.class, Object.class));
+
+        // When & Then
+        assertFalse(converter.canWrite(summaries.getType(), PageImpl.class,
+                ProtobufResponseConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(tasks.getType(), PageImpl.class, ProtobufResponseConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(sparseRows.getType(), ArrayList.class,
+                ProtobufResponseConverter.APPLICATION_PROTOBUF));
+        assertTrue(converter.canWrite(Object.class, ArrayList.class, ProtobufResponseConverter.APPLICATION_PROTOBUF));
+    }
+
+    private static int tag(int field, int wireType) {
+        return field << 3 | wireType;
+    }
+
+    private static byte[] encode(Object body) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ProtobufResponseConverter.write(body, buffer);
+        return buffer.toByteArray();
+    }
+
+    private static long readInt64(CodedInputStream in, int field) throws Exception {
+        assertEquals(tag(field, WireFormat.WIRETYPE_VARINT), in.readTag());
+        return in.readInt64();
+    }
+
+    private static String readString(CodedInputStream in, int field) throws Exception {
+        assertEquals(tag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED), in.readTag());
+        return in.readString();
+    }
+}
@@ -0,0 +1,131 @@
+package com.taskmanager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.mapper.ProjectMapper;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void run_ShouldExerciseHotPathsThenReportUp() {
+        // Given
+        WarmupRunner runner = runner(true, 50);
+        stubQueries();
+        Claims claims = mock(Claims.class);
+        when(jwtUtil.generateAccessToken(eq(0L), anyString(), anyList())).thenReturn("token");
+        when(jwtUtil.parseAccessToken("token")).thenReturn(claims);
+        assertEquals(Status.OUT_OF_SERVICE, runner.health().getStatus());
+
+        // When
+        runner.run(null);
+
+        // Then
+        assertTrue(runner.isComplete());
+        assertEquals(Status.UP, runner.health().getStatus());
+        assertTrue((Long) runner.health().getDetails().get("iterations") > 0);
+        verify(jwtUtil, atLeastOnce()).toPrincipal(claims);
+        // Every read-only transaction is marked rollback-only before it ends
+        verify(transactionManager, atLeastOnce()).commit(any());
+        verify(transactionManager, never()).commit(argThat(status -> !status.isRollbackOnly()));
+    }
+
+    @Test
+    void run_OnVerificationOnlyNode_ShouldStopSigningAndFinish() {
+        // Given
+        WarmupRunner runner = runner(true, 50);
+        stubQueries();
+        when(jwtUtil.generateAccessToken(eq(0L), anyString(), anyList()))
+                .thenThrow(new IllegalStateException("No private key"));
+
+        // When
+        runner.run(null);
+
+        // Then
+        assertEquals(Status.UP, runner.health().getStatus());
+        verify(jwtUtil, times(1)).generateAccessToken(eq(0L), anyString(), anyList());
+    }
+
+    @Test
+    void run_WhenDisabled_ShouldReportUpWithoutWork() {
+        // Given
+        WarmupRunner runner = runner(false, 50);
+
+        // When
+        runner.run(null);
+
+        // Then
+        assertEquals(Status.UP, runner.health().getStatus());
+        verifyNoInteractions(jwtUtil, taskRepository, projectRepository, transactionManager);
+    }
+
+    @Test
+    void run_ShouldStopAfterIterationsAndQueryEveryNth() {
+        // Given
+        WarmupRunner runner = runner(true, 30, 10, 60_000);
+        stubQueries();
+        when(jwtUtil.generateAccessToken(eq(0L), anyString(), anyList()))
+                .thenThrow(new IllegalStateException("No private key"));
+
+        // When
+        runner.run(null);
+
+        // Then
+        assertEquals(30L, runner.health().getDetails().get("iterations"));
+        verify(projectRepository, times(3)).findAll(any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubQueries() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(projectRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(taskRepository.findResponses(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+        when(taskRepository.findAgenda(anyLong(), any(), any(), anyLong(), any())).thenReturn(List.of());
+    }
+
+    private WarmupRunner runner(boolean enabled, long durationMs) {
+        return runner(enabled, Long.MAX_VALUE, 1, durationMs);
+    }
+
+    private WarmupRunner runner(boolean enabled, long iterations, int queryEvery, long durationMs) {
+        return new WarmupRunner(jwtUtil, new TaskMapper(), new ProjectMapper(), objectMapper, taskRepository,
+                projectRepository, transactionManager, enabled, iterations, queryEvery, durationMs);
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.config.ProtobufResponseConverter;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Protobuf is only offered for endpoints whose rows have a schema; others
+ * answer 406 rather than failing while writing.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:protobuf;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "warmup.enabled=false"
+})
+class ProtobufNegotiationIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private HttpHeaders headers;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("protobuf-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("{noop}password123");
+        user.setFirstName("Protobuf");
+        user.setLastName("User");
+        user = userRepository.save(user);
+        Project project = new Project();
+        project.setTitle("Encoded");
+        project.setUser(user);
+        projectRepository.save(project);
+
+        headers = new HttpHeaders();
+        headers.setBearerAuth(jwtUtil.generateAccessToken(user.getId(), user.getEmail(), List.of("ROLE_USER")));
+        headers.setAccept(List.of(ProtobufResponseConverter.APPLICATION_PROTOBUF));
+    }
+
+    @Test
+    void getProjectSummaries_AsProtobuf_ShouldBeNotAcceptable() {
+        // When
+        ResponseEntity<byte[]> response = restTemplate.exchange("/projects/summaries", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        // Then
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, response.getStatusCode());
+    }
+
+    @Test
+    void getProjectsPaginated_AsProtobuf_ShouldEncodePage() {
+        // When
+        ResponseEntity<byte[]> response = restTemplate.exchange("/projects/paginated", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(ProtobufResponseConverter.APPLICATION_PROTOBUF.isCompatibleWith(
+                response.getHeaders().getContentType()));
+    }
+}
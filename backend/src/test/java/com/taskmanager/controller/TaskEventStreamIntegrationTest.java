@@ -0,0 +1,104 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.model.Project;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Open SSE streams must not pin database connections: with more streams open
+ * than the pool has connections, ordinary requests still get one.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:sse;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "warmup.enabled=false"
+})
+class TaskEventStreamIntegrationTest {
+
+    private static final int STREAMS = 4;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void openStreams_ShouldNotHoldPooledConnections() throws Exception {
+        // Given
+        User user = new User();
+        user.setEmail("sse-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("{noop}password123");
+        user.setFirstName("Stream");
+        user.setLastName("User");
+        user = userRepository.save(user);
+        Project project = new Project();
+        project.setTitle("Streamed");
+        project.setUser(user);
+        project = projectRepository.save(project);
+        String token = jwtUtil.generateAccessToken(user.getId(), user.getEmail(), List.of("ROLE_USER"));
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        List<InputStream> streams = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < STREAMS; i++) {
+                HttpResponse<InputStream> stream = client.send(request("/projects/" + project.getId() + "/tasks/events", token)
+                        .header("Accept", "text/event-stream")
+                        .build(), HttpResponse.BodyHandlers.ofInputStream());
+                assertEquals(200, stream.statusCode());
+                streams.add(stream.body());
+            }
+
+            // When
+            HttpResponse<String> response = client.sendAsync(request("/projects", token).build(),
+                    HttpResponse.BodyHandlers.ofString()).get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(200, response.statusCode());
+        } finally {
+            for (InputStream stream : streams) {
+                stream.close();
+            }
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Authorization", "Bearer " + token);
+    }
+}
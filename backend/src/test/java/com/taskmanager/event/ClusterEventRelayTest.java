@@ -0,0 +1,174 @@
+package com.taskmanager.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterEventRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void drainPayloads_WithRepeatedChangesToOneTask_ShouldSendLatestOnly() throws Exception {
+        // Given
+        ClusterEventRelay relay = relay("node-a", 7900);
+        relay.onTaskEvent(TaskEvent.of(TaskEvent.Type.TOGGLED, task(1L, true)));
+        relay.onTaskEvent(TaskEvent.of(TaskEvent.Type.TOGGLED, task(1L, false)));
+
+        // When
+        List<String> payloads = relay.drainPayloads();
+
+        // Then
+        assertEquals(1, payloads.size());
+        ClusterEventRelay.Envelope envelope = objectMapper.readValue(payloads.get(0), ClusterEventRelay.Envelope.class);
+        assertEquals(1, envelope.tasks().size());
+        assertFalse(envelope.tasks().get(0).task().isCompleted());
+        assertEquals(1.0, meterRegistry.counter("cluster.events.coalesced").count());
+        assertTrue(relay.drainPayloads().isEmpty());
+    }
+
+    @Test
+    void drainPayloads_WithBurstAboveLimit_ShouldSplitIntoPayloadsThatFit() throws Exception {
+        // Given
+        ClusterEventRelay relay = relay("node-a", 600);
+        for (long id = 1; id <= 20; id++) {
+            relay.onTaskEvent(TaskEvent.of(TaskEvent.Type.CREATED, task(id, false)));
+        }
+
+        // When
+        List<String> payloads = relay.drainPayloads();
+
+        // Then
+        assertTrue(payloads.size() > 1);
+        Set<Long> taskIds = new HashSet<>();
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= 600);
+            objectMapper.readValue(payload, ClusterEventRelay.Envelope.class).tasks()
+                    .forEach(event -> taskIds.add(event.taskId()));
+        }
+        assertEquals(20, taskIds.size());
+    }
+
+    @Test
+    void receive_WithEventSentWithoutBody_ShouldReloadTaskAndRepublish() {
+        // Given
+        ClusterEventRelay sender = relay("node-a", 300);
+        ClusterEventRelay receiver = relay("node-b", 300);
+        TaskResponse large = task(1L, true);
+        large.setDescription("x".repeat(1000));
+        sender.onTaskEvent(TaskEvent.of(TaskEvent.Type.COMPLETED, large));
+        List<String> payloads = sender.drainPayloads();
+
+        TaskResponse stored = task(1L, true);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(stored));
+
+        // When
+        payloads.forEach(receiver::receive);
+
+        // Then
+        assertEquals(1, payloads.size());
+        assertFalse(payloads.get(0).contains("xxxx"));
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.of(TaskEvent.Type.COMPLETED, stored));
+    }
+
+    @Test
+    void receive_WithOwnNotification_ShouldIgnoreIt() {
+        // Given
+        ClusterEventRelay relay = relay("node-a", 7900);
+        relay.onTaskEvent(TaskEvent.deleted(10L, 1L));
+        List<String> payloads = relay.drainPayloads();
+
+        // When
+        payloads.forEach(relay::receive);
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void receive_FromOtherNode_ShouldRepublishEvents() {
+        // Given
+        ClusterEventRelay sender = relay("node-a", 7900);
+        ClusterEventRelay receiver = relay("node-b", 7900);
+        sender.onTaskEvent(TaskEvent.deleted(10L, 1L));
+
+        // When
+        sender.drainPayloads().forEach(receiver::receive);
+
+        // Then
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.deleted(10L, 1L));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void start_AfterStop_ShouldGenerateNewNodeIdUnlessConfigured() throws Exception {
+        // Given
+        ClusterEventRelay generated = relay("", 7900);
+        ClusterEventRelay configured = relay("node-a", 7900);
+        String before = sentBy(generated);
+
+        // When
+        for (ClusterEventRelay relay : List.of(generated, configured)) {
+            relay.start();
+            relay.stop();
+        }
+
+        // Then
+        assertFalse(generated.isRunning());
+        assertNotEquals(before, sentBy(generated));
+        assertEquals("node-a", sentBy(configured));
+    }
+
+    private String sentBy(ClusterEventRelay relay) throws Exception {
+        relay.onTaskEvent(TaskEvent.deleted(10L, 1L));
+        return objectMapper.readTree(relay.drainPayloads().get(0)).get("node").asText();
+    }
+
+    private ClusterEventRelay relay(String nodeId, int maxPayloadBytes) {
+        return new ClusterEventRelay(jdbcTemplate, objectMapper, eventPublisher, taskRepository,
+                projectRepository, meterRegistry, "jdbc:postgresql://localhost/test", "test",
+                "test", "taskmanager_events", nodeId, maxPayloadBytes);
+    }
+
+    private static TaskResponse task(Long id, boolean completed) {
+        return new TaskResponse(id, "Task " + id, "Description " + id, LocalDate.of(2025, 1, 1), completed, 10L);
+    }
+}
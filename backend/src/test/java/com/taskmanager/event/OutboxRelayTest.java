@@ -0,0 +1,116 @@
+package com.taskmanager.event;
+
+import com.taskmanager.model.OutboxEvent;
+import com.taskmanager.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxPublisher publisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, publisher, transactionManager, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC), 2, 10);
+    }
+
+    @Test
+    void relay_ShouldPublishAndDeleteBatchesUntilDrained() {
+        // Given
+        List<OutboxEvent> first = List.of(event(1L, 5), event(2L, 4));
+        List<OutboxEvent> second = List.of(event(3L, 1));
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(first, second);
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(publisher).publish(first);
+        verify(publisher).publish(second);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.counter("outbox.published").count());
+        assertEquals(5.0, meterRegistry.timer("outbox.delivery.lag").max(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void relay_WhenPublishFails_ShouldRollBackAndKeepBatch() {
+        // Given
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(event(1L, 5)));
+        doThrow(new IllegalStateException("Broker unavailable")).when(publisher).publish(anyList());
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(transactionManager).rollback(any());
+        assertEquals(0.0, meterRegistry.counter("outbox.published").count());
+        assertEquals(1.0, meterRegistry.counter("outbox.publish.failures").count());
+    }
+
+    @Test
+    void relay_ShouldStopAfterMaxBatchesPerRun() {
+        // Given
+        when(outboxEventRepository.lockNextBatch(2)).thenAnswer(invocation -> List.of(event(1L, 0), event(2L, 0)));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(publisher, times(10)).publish(anyList());
+    }
+
+    @Test
+    void oldestPendingAge_ShouldReflectOldestUnpublishedEvent() {
+        // Given
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of());
+        when(outboxEventRepository.count()).thenReturn(7L);
+        when(outboxEventRepository.findOldestCreatedAt()).thenReturn(NOW.minusSeconds(30));
+
+        // When
+        relay.relay();
+
+        // Then
+        verifyNoInteractions(publisher);
+        assertEquals(7.0, meterRegistry.get("outbox.pending").gauge().value());
+        assertEquals(30.0, meterRegistry.get("outbox.oldest.age").gauge().value());
+    }
+
+    private static OutboxEvent event(Long id, long ageSeconds) {
+        return new OutboxEvent(id, OutboxWriter.TASK_AGGREGATE, id, TaskEvent.Type.TOGGLED.name(), "{}",
+                NOW.minusSeconds(ageSeconds));
+    }
+}
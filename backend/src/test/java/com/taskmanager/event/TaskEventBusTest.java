@@ -0,0 +1,226 @@
+package com.taskmanager.event;
+
+import com.taskmanager.dto.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBusTest {
+
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Dispatch runs only when the test drains it, so slow consumers can be simulated
+        bus = new TaskEventBus(meterRegistry, 2, pending::add, 10_000);
+    }
+
+    @Test
+    void publish_ShouldDeliverOnlyToSubscribersOfTheProject() {
+        // Given
+        RecordingSink watching = new RecordingSink();
+        RecordingSink other = new RecordingSink();
+        bus.subscribe(1L, watching);
+        bus.subscribe(2L, other);
+
+        // When
+        bus.publish(event(1L, 10L));
+        runPending();
+
+        // Then
+        assertEquals(List.of(10L), watching.taskIds());
+        assertTrue(other.events.isEmpty());
+    }
+
+    @Test
+    void publish_WhenBufferOverflows_ShouldDropOnlySlowSubscriber() {
+        // Given
+        RecordingSink slow = new RecordingSink();
+        RecordingSink fast = new RecordingSink();
+        bus.subscribe(1L, slow);
+        bus.publish(event(1L, 10L));
+        bus.publish(event(1L, 11L));
+        bus.subscribe(1L, fast);
+
+        // When
+        bus.publish(event(1L, 12L));
+        runPending();
+
+        // Then
+        assertTrue(slow.closed);
+        assertTrue(slow.dropped);
+        assertTrue(slow.events.isEmpty());
+        assertEquals(List.of(12L), fast.taskIds());
+        assertEquals(1, bus.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter("task.events.subscribers.dropped").count());
+    }
+
+    @Test
+    void cancel_ShouldStopDelivery() {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        TaskEventBus.Subscription subscription = bus.subscribe(1L, sink);
+
+        // When
+        subscription.cancel();
+        subscription.cancel();
+        bus.publish(event(1L, 10L));
+        runPending();
+
+        // Then
+        assertTrue(sink.events.isEmpty());
+        assertTrue(sink.closed);
+        assertFalse(sink.dropped);
+        assertEquals(0, bus.subscriberCount());
+    }
+
+    @Test
+    void heartbeat_WhenSinkFails_ShouldRemoveSubscriber() {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        sink.failing = true;
+        bus.subscribe(1L, sink);
+
+        // When
+        bus.heartbeat();
+        runPending();
+
+        // Then
+        assertTrue(sink.closed);
+        assertEquals(0, bus.subscriberCount());
+    }
+
+    @Test
+    void expireStalledWrites_ShouldDropBlockedSubscriberAndKeepDeliveringToOthers() throws Exception {
+        // Given
+        ExecutorService dispatcher = Executors.newFixedThreadPool(1);
+        TaskEventBus timedBus = new TaskEventBus(meterRegistry, 2, dispatcher, 50);
+        BlockingSink blocked = new BlockingSink();
+        BlockingSink healthy = new BlockingSink();
+        healthy.release.countDown();
+        timedBus.subscribe(1L, blocked);
+        timedBus.subscribe(2L, healthy);
+        try {
+            timedBus.publish(event(1L, 10L));
+            assertTrue(blocked.writing.await(5, TimeUnit.SECONDS));
+
+            // When
+            timedBus.publish(event(2L, 20L));
+            Thread.sleep(100);
+            timedBus.expireStalledWrites();
+
+            // Then
+            assertTrue(healthy.received.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(20L), healthy.taskIds());
+            assertEquals(1, timedBus.subscriberCount());
+            assertEquals(1.0, meterRegistry.counter("task.events.subscribers.dropped").count());
+        } finally {
+            blocked.release.countDown();
+        }
+        assertTrue(blocked.closed.await(5, TimeUnit.SECONDS));
+        assertTrue(blocked.dropped);
+        dispatcher.shutdown();
+    }
+
+    private void runPending() {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static TaskEvent event(Long projectId, Long taskId) {
+        return TaskEvent.of(TaskEvent.Type.TOGGLED,
+                new TaskResponse(taskId, "Task " + taskId, null, null, true, projectId));
+    }
+
+    /**
+     * Blocks in {@code send} until released, like a write to a client that
+     * stopped reading.
+     */
+    private static final class BlockingSink implements TaskEventBus.Sink {
+
+        private final List<TaskEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch received = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile boolean dropped;
+
+        @Override
+        public void send(TaskEvent event) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted", e);
+            }
+            events.add(event);
+            received.countDown();
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close(boolean dropped) {
+            this.dropped = dropped;
+            closed.countDown();
+        }
+
+        List<Long> taskIds() {
+            return events.stream().map(TaskEvent::taskId).toList();
+        }
+    }
+
+    private static final class RecordingSink implements TaskEventBus.Sink {
+
+        private final List<TaskEvent> events = new ArrayList<>();
+        private boolean failing;
+        private boolean closed;
+        private boolean dropped;
+
+        @Override
+        public void send(TaskEvent event) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+        }
+
+        @Override
+        public void close(boolean dropped) {
+            this.closed = true;
+            this.dropped = dropped;
+        }
+
+        List<Long> taskIds() {
+            return events.stream().map(TaskEvent::taskId).toList();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskmanager.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.dto.TaskVersion;
+import com.taskmanager.event.TaskEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SimpleMeterRegistry meterRegistry;
+    private TaskJsonCache cache;
+    private List<TaskResponse> rows;
+    private List<Collection<Long>> loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TaskJsonCache(objectMapper, meterRegistry, true, 1000);
+        rows = new ArrayList<>();
+        loads = new ArrayList<>();
+    }
+
+    @Test
+    void toJson_ShouldWriteSameBytesAsJackson() throws Exception {
+        // Given
+        List<TaskResponse> tasks = List.of(task(1L, "First \"quoted\" é", false), task(2L, "Second", true));
+        rows.addAll(tasks);
+        List<TaskVersion> versions = List.of(new TaskVersion(1L, 0), new TaskVersion(2L, 0));
+        Page<TaskVersion> page = new PageImpl<>(versions, PageRequest.of(0, 2), 5);
+
+        // When
+        String list = objectMapper.writeValueAsString(cache.toJson(versions, loader()));
+        String paged = objectMapper.writeValueAsString(cache.toJson(page, loader()));
+
+        // Then
+        assertEquals(objectMapper.writeValueAsString(tasks), list);
+        assertEquals(objectMapper.writeValueAsString(new PageImpl<>(tasks, PageRequest.of(0, 2), 5)), paged);
+    }
+
+    @Test
+    void toJson_WithBinaryFormat_ShouldEncodeStructuredTasks() throws Exception {
+        // Given
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+        List<TaskResponse> tasks = List.of(task(1L, "First", false), task(2L, "Second", true));
+        rows.addAll(tasks);
+
+        // When
+        byte[] cbor = cborMapper.writeValueAsBytes(
+                cache.toJson(List.of(new TaskVersion(1L, 0), new TaskVersion(2L, 0)), loader()));
+
+        // Then
+        assertArrayEquals(cborMapper.writeValueAsBytes(tasks), cbor);
+    }
+
+    @Test
+    void toJson_ForUnchangedVersion_ShouldReuseEncodingWithoutLoading() {
+        // Given
+        rows.add(task(1L, "Task", false));
+        TaskJsonCache.Fragment first = cache.toJson(List.of(new TaskVersion(1L, 3)), loader()).get(0);
+
+        // When
+        TaskJsonCache.Fragment second = cache.toJson(List.of(new TaskVersion(1L, 3)), loader()).get(0);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loads.size());
+        assertEquals(1.0, meterRegistry.get("tasks.json.fragments").tag("result", "reused").counter().count());
+    }
+
+    @Test
+    void toJson_ForNewerVersion_ShouldLoadOnlyChangedRows() throws Exception {
+        // Given
+        rows.add(task(1L, "Task", false));
+        rows.add(task(2L, "Other", false));
+        cache.toJson(List.of(new TaskVersion(1L, 0), new TaskVersion(2L, 0)), loader());
+        rows.set(0, task(1L, "Task", true));
+
+        // When
+        List<TaskJsonCache.Fragment> json = cache.toJson(List.of(new TaskVersion(1L, 1), new TaskVersion(2L, 0)),
+                loader());
+
+        // Then
+        assertEquals(List.of(1L), List.copyOf(loads.get(1)));
+        assertEquals(objectMapper.writeValueAsString(task(1L, "Task", true)),
+                objectMapper.writeValueAsString(json.get(0)));
+    }
+
+    @Test
+    void toJson_WhenRowIsGoneBeforeLoading_ShouldLeaveItOut() {
+        // Given
+        rows.add(task(2L, "Other", false));
+
+        // When
+        List<TaskJsonCache.Fragment> json = cache.toJson(List.of(new TaskVersion(1L, 0), new TaskVersion(2L, 0)),
+                loader());
+
+        // Then
+        assertEquals(1, json.size());
+        assertEquals(2L, json.get(0).task().getId());
+    }
+
+    @Test
+    void onTaskEvent_ShouldEvictFragment() {
+        // Given
+        rows.add(task(1L, "Task", false));
+        rows.add(task(2L, "Other", false));
+        cache.toJson(List.of(new TaskVersion(1L, 0), new TaskVersion(2L, 0)), loader());
+
+        // When
+        cache.onTaskEvent(TaskEvent.deleted(10L, 1L));
+
+        // Then
+        assertEquals(1, cache.size());
+    }
+
+    private Function<Collection<Long>, List<TaskResponse>> loader() {
+        return ids -> {
+            loads.add(List.copyOf(ids));
+            return rows.stream().filter(task -> ids.contains(task.getId())).toList();
+        };
+    }
+
+    private static TaskResponse task(Long id, String title, boolean completed) {
+        return new TaskResponse(id, title, "Description " + id, LocalDate.of(2025, 1, 1), completed, 10L);
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class TaskFieldsRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("fields@example.com");
+        user.setPassword("password");
+        user.setFirstName("Fields");
+        user.setLastName("Test");
+        userRepository.save(user);
+
+        project = new Project();
+        project.setTitle("Sparse project");
+        project.setDescription("A long project description");
+        project.setUser(user);
+        projectRepository.save(project);
+
+        for (int i = 1; i <= 3; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("A long description " + i);
+            task.setDueDate(LocalDate.of(2025, 1, i));
+            task.setCompleted(i == 2);
+            task.setProject(project);
+            taskRepository.save(task);
+        }
+    }
+
+    @Test
+    void findFields_ShouldSelectOnlyIdAndRequestedFields() {
+        // When
+        List<Map<String, Object>> rows = taskRepository.findFields(TaskSpecifications.inProject(project.getId()),
+                Sort.by("id"), Set.of("completed", "title"));
+
+        // Then
+        assertEquals(3, rows.size());
+        assertEquals(List.of("id", "title", "completed"), List.copyOf(rows.get(0).keySet()));
+        assertEquals("Task 1", rows.get(0).get("title"));
+        assertEquals(true, rows.get(1).get("completed"));
+    }
+
+    @Test
+    void findFields_WithUnknownField_ShouldThrowException() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> taskRepository.findFields(TaskSpecifications.inProject(project.getId()), Sort.unsorted(),
+                        Set.of("version")));
+        assertEquals("Unknown field: version", exception.getMessage());
+    }
+
+    @Test
+    void findResponses_ShouldPageFullRowsWithFilter() {
+        // When
+        Page<TaskResponse> page = taskRepository.findResponses(
+                TaskSpecifications.matching(project.getId(), new TaskFilter(null, null, false, null, null)),
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "dueDate")));
+
+        // Then
+        assertEquals(2, page.getTotalElements());
+        TaskResponse task = page.getContent().get(0);
+        assertEquals("Task 3", task.getTitle());
+        assertEquals("A long description 3", task.getDescription());
+        assertEquals(project.getId(), task.getProjectId());
+    }
+
+    @Test
+    void findFieldsByUserId_ShouldLeaveOutUnrequestedDescription() {
+        // When
+        List<Map<String, Object>> rows = projectRepository.findFieldsByUserId(project.getUser().getId(),
+                Set.of("title"));
+
+        // Then
+        assertEquals(List.of(Map.of("id", project.getId(), "title", "Sparse project")), rows);
+    }
+}
@@ -0,0 +1,118 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskFilter;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class TaskSpecificationsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("filter@example.com");
+        user.setPassword("password");
+        user.setFirstName("Filter");
+        user.setLastName("Test");
+        userRepository.save(user);
+
+        project = new Project();
+        project.setTitle("Filtered project");
+        project.setUser(user);
+        projectRepository.save(project);
+
+        Project other = new Project();
+        other.setTitle("Other project");
+        other.setUser(user);
+        projectRepository.save(other);
+
+        save(project, "Write report", "Quarterly numbers", TODAY, false);
+        save(project, "Review report", "100% of the draft", TODAY.plusDays(3), true);
+        save(project, "Plan sprint", null, TODAY.plusDays(10), false);
+        save(other, "Write report", "Quarterly numbers", TODAY, false);
+    }
+
+    @Test
+    void matching_WithNoCriteria_ShouldReturnOnlyProjectTasks() {
+        // When
+        List<String> titles = titles(new TaskFilter());
+
+        // Then
+        assertEquals(List.of("Write report", "Review report", "Plan sprint"), titles);
+    }
+
+    @Test
+    void matching_WithTitleAndCompletion_ShouldCombinePredicates() {
+        // When
+        List<String> titles = titles(new TaskFilter("REPORT", null, false, null, null));
+
+        // Then
+        assertEquals(List.of("Write report"), titles);
+    }
+
+    @Test
+    void matching_WithDueDateRange_ShouldIncludeBothBounds() {
+        // When
+        List<String> titles = titles(new TaskFilter(null, null, null, TODAY, TODAY.plusDays(3)));
+
+        // Then
+        assertEquals(List.of("Write report", "Review report"), titles);
+    }
+
+    @Test
+    void matching_WithLikeWildcardInText_ShouldMatchItLiterally() {
+        // When
+        List<String> percent = titles(new TaskFilter(null, "100%", null, null, null));
+        List<String> underscore = titles(new TaskFilter("write_report", null, null, null, null));
+
+        // Then
+        assertEquals(List.of("Review report"), percent);
+        assertTrue(underscore.isEmpty());
+    }
+
+    private List<String> titles(TaskFilter filter) {
+        return taskRepository.findAll(TaskSpecifications.matching(project.getId(), filter), Sort.by("id"))
+                .stream()
+                .map(Task::getTitle)
+                .toList();
+    }
+
+    private void save(Project project, String title, String description, LocalDate dueDate, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setDueDate(dueDate);
+        task.setCompleted(completed);
+        task.setProject(project);
+        taskRepository.save(task);
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskmanager.security;
+
+import com.taskmanager.dto.LoginRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the login rate limiter behind a simulated load balancer: every request
+ * comes from the loopback address, and the client is only told apart by the
+ * {@code X-Forwarded-For} header the proxy adds.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:ratelimit;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "warmup.enabled=false",
+        "security.rate-limit.ip.capacity=2",
+        "security.rate-limit.ip.refill-per-minute=1"
+})
+class LoginRateLimitIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void login_BehindProxy_ShouldLimitEachForwardedClientSeparately() {
+        // Given
+        login("203.0.113.1", "first@test.com");
+        login("203.0.113.1", "second@test.com");
+
+        // When
+        ResponseEntity<String> limited = login("203.0.113.1", "third@test.com");
+        ResponseEntity<String> otherClient = login("203.0.113.2", "fourth@test.com");
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, otherClient.getStatusCode());
+    }
+
+    private ResponseEntity<String> login(String clientAddress, String email) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", clientAddress);
+        return restTemplate.postForEntity("/auth/login",
+                new HttpEntity<>(new LoginRequest(email, "password123"), headers), String.class);
+    }
+}
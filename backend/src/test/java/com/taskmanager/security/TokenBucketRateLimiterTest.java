@@ -0,0 +1,135 @@
+package com.taskmanager.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private AtomicLong clock;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+        // 3 tokens, one refilled every 10 seconds
+        limiter = new TokenBucketRateLimiter(3, 6, 1000, clock::get);
+    }
+
+    @Test
+    void tryAcquire_WithinCapacity_ShouldAllow() {
+        // When & Then
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+    }
+
+    @Test
+    void tryAcquire_WhenBucketEmpty_ShouldRejectWithWaitTime() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // When
+        long wait = limiter.tryAcquire("10.0.0.1");
+
+        // Then
+        assertEquals(Duration.ofSeconds(10).toNanos(), wait);
+    }
+
+    @Test
+    void tryAcquire_AfterRefillInterval_ShouldAllowAgain() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Then
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertTrue(limiter.tryAcquire("10.0.0.1") > 0);
+    }
+
+    @Test
+    void tryAcquire_WithDifferentKeys_ShouldUseSeparateBuckets() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // When & Then
+        assertTrue(limiter.tryAcquire("10.0.0.1") > 0);
+        assertEquals(0, limiter.tryAcquire("10.0.0.2"));
+    }
+
+    @Test
+    void tryAcquire_WhenTrackingTooManyIdleKeys_ShouldSweepRefilledBuckets() {
+        // Given
+        TokenBucketRateLimiter small = new TokenBucketRateLimiter(1, 60, 16, clock::get);
+        for (int i = 0; i < 200; i++) {
+            small.tryAcquire("client-" + i);
+        }
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        for (int i = 0; i < 200; i++) {
+            small.tryAcquire("other-" + i);
+        }
+
+        // Then
+        assertTrue(small.trackedKeys() < 400);
+    }
+
+    @Test
+    void tryAcquire_UnderContention_ShouldNeverExceedCapacity() throws InterruptedException {
+        // Given
+        TokenBucketRateLimiter contended = new TokenBucketRateLimiter(100, 1, 1000, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (contended.tryAcquire("shared") == 0) {
+                    allowed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(100, allowed.get());
+    }
+
+    @Test
+    void clear_ShouldRestoreFullBuckets() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // When
+        limiter.clear();
+
+        // Then
+        assertEquals(0, limiter.trackedKeys());
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+    }
+}
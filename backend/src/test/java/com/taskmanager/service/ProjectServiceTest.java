@@ -2,9 +2,11 @@ package com.taskmanager.service;
 
 import com.taskmanager.dto.ProjectRequest;
 import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.ProjectSummaryResponse;
 import com.taskmanager.dto.ProgressResponse;
+import com.taskmanager.event.ProjectEvent;
+import com.taskmanager.mapper.ProjectMapper;
 import com.taskmanager.model.Project;
-import com.taskmanager.model.Task;
 import com.taskmanager.model.User;
 import com.taskmanager.repository.ProjectRepository;
 import com.taskmanager.repository.UserRepository;
@@ -13,9 +15,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -37,21 +45,30 @@ class ProjectServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private ProjectMapper projectMapper = new ProjectMapper();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskToggleCoalescer toggleCoalescer;
+
     @InjectMocks
     private ProjectService projectService;
 
     private User testUser;
     private Project testProject;
     private ProjectRequest projectRequest;
-    private String userEmail;
+    private Long userId;
 
     @BeforeEach
     void setUp() {
-        userEmail = "test@example.com";
+        userId = 1L;
 
         testUser = new User();
-        testUser.setId(1L);
-        testUser.setEmail(userEmail);
+        testUser.setId(userId);
+        testUser.setEmail("test@example.com");
         testUser.setPassword("encodedPassword");
 
         testProject = new Project();
@@ -69,11 +86,11 @@ class ProjectServiceTest {
     @Test
     void createProject_WithValidRequest_ShouldCreateAndReturnProject() {
         // Given
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
+        when(userRepository.getReferenceById(userId)).thenReturn(testUser);
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
         // When
-        ProjectResponse result = projectService.createProject(userEmail, projectRequest);
+        ProjectResponse result = projectService.createProject(userId, projectRequest);
 
         // Then
         assertNotNull(result);
@@ -81,36 +98,24 @@ class ProjectServiceTest {
         assertEquals(testProject.getTitle(), result.getTitle());
         assertEquals(testProject.getDescription(), result.getDescription());
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
+        verify(userRepository, times(1)).getReferenceById(userId);
         verify(projectRepository, times(1)).save(any(Project.class));
-    }
-
-    @Test
-    void createProject_WithUserNotFound_ShouldThrowException() {
-        // Given
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.empty());
-
-        // When & Then
-        assertThrows(UsernameNotFoundException.class,
-            () -> projectService.createProject(userEmail, projectRequest));
-
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, never()).save(any(Project.class));
+        verify(eventPublisher, times(1)).publishEvent(ProjectEvent.of(ProjectEvent.Type.CREATED, userId, result));
     }
 
     @Test
     void createProject_WithNullTitle_ShouldStillCreate() {
         // Given
         projectRequest.setTitle(null);
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
+        when(userRepository.getReferenceById(userId)).thenReturn(testUser);
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
         // When
-        ProjectResponse result = projectService.createProject(userEmail, projectRequest);
+        ProjectResponse result = projectService.createProject(userId, projectRequest);
 
         // Then
         assertNotNull(result);
-        verify(userRepository, times(1)).findByEmail(userEmail);
+        verify(userRepository, times(1)).getReferenceById(userId);
         verify(projectRepository, times(1)).save(any(Project.class));
     }
 
@@ -118,15 +123,15 @@ class ProjectServiceTest {
     void createProject_WithEmptyDescription_ShouldStillCreate() {
         // Given
         projectRequest.setDescription("");
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
+        when(userRepository.getReferenceById(userId)).thenReturn(testUser);
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
         // When
-        ProjectResponse result = projectService.createProject(userEmail, projectRequest);
+        ProjectResponse result = projectService.createProject(userId, projectRequest);
 
         // Then
         assertNotNull(result);
-        verify(userRepository, times(1)).findByEmail(userEmail);
+        verify(userRepository, times(1)).getReferenceById(userId);
         verify(projectRepository, times(1)).save(any(Project.class));
     }
 
@@ -141,11 +146,10 @@ class ProjectServiceTest {
 
         List<Project> projects = Arrays.asList(testProject, project2);
 
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByUser(testUser)).thenReturn(projects);
+        when(projectRepository.findResponsesByUserId(userId)).thenReturn(projectMapper.toResponseList(projects));
 
         // When
-        List<ProjectResponse> result = projectService.getUserProjects(userEmail);
+        List<ProjectResponse> result = projectService.getUserProjects(userId);
 
         // Then
         assertNotNull(result);
@@ -153,49 +157,34 @@ class ProjectServiceTest {
         assertEquals(testProject.getId(), result.get(0).getId());
         assertEquals(project2.getId(), result.get(1).getId());
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByUser(testUser);
-    }
-
-    @Test
-    void getUserProjects_WithUserNotFound_ShouldThrowException() {
-        // Given
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.empty());
-
-        // When & Then
-        assertThrows(UsernameNotFoundException.class,
-            () -> projectService.getUserProjects(userEmail));
-
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, never()).findByUser(any(User.class));
+        verifyNoInteractions(userRepository);
+        verify(projectRepository, times(1)).findResponsesByUserId(userId);
     }
 
     @Test
     void getUserProjects_WithNoProjects_ShouldReturnEmptyList() {
         // Given
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByUser(testUser)).thenReturn(new ArrayList<>());
+        when(projectRepository.findResponsesByUserId(userId)).thenReturn(new ArrayList<>());
 
         // When
-        List<ProjectResponse> result = projectService.getUserProjects(userEmail);
+        List<ProjectResponse> result = projectService.getUserProjects(userId);
 
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByUser(testUser);
+        verifyNoInteractions(userRepository);
+        verify(projectRepository, times(1)).findResponsesByUserId(userId);
     }
 
     @Test
     void getProjectById_WithValidProjectAndUser_ShouldReturnProject() {
         // Given
         Long projectId = 1L;
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByIdAndUser(projectId, testUser)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(testProject));
 
         // When
-        ProjectResponse result = projectService.getProjectById(userEmail, projectId);
+        ProjectResponse result = projectService.getProjectById(userId, projectId);
 
         // Then
         assertNotNull(result);
@@ -203,83 +192,51 @@ class ProjectServiceTest {
         assertEquals(testProject.getTitle(), result.getTitle());
         assertEquals(testProject.getDescription(), result.getDescription());
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByIdAndUser(projectId, testUser);
-    }
-
-    @Test
-    void getProjectById_WithUserNotFound_ShouldThrowException() {
-        // Given
-        Long projectId = 1L;
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.empty());
-
-        // When & Then
-        assertThrows(UsernameNotFoundException.class,
-            () -> projectService.getProjectById(userEmail, projectId));
-
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, never()).findByIdAndUser(anyLong(), any(User.class));
+        verifyNoInteractions(userRepository);
+        verify(projectRepository, times(1)).findByIdAndUserId(projectId, userId);
     }
 
     @Test
     void getProjectById_WithProjectNotFound_ShouldThrowException() {
         // Given
         Long projectId = 999L;
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByIdAndUser(projectId, testUser)).thenReturn(Optional.empty());
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> projectService.getProjectById(userEmail, projectId));
+            () -> projectService.getProjectById(userId, projectId));
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByIdAndUser(projectId, testUser);
+        verifyNoInteractions(userRepository);
+        verify(projectRepository, times(1)).findByIdAndUserId(projectId, userId);
     }
 
     @Test
     void getProjectEntity_WithValidProjectAndUser_ShouldReturnProjectEntity() {
         // Given
         Long projectId = 1L;
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByIdAndUser(projectId, testUser)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(testProject));
 
         // When
-        Project result = projectService.getProjectEntity(userEmail, projectId);
+        Project result = projectService.getProjectEntity(userId, projectId);
 
         // Then
         assertNotNull(result);
         assertEquals(testProject, result);
         assertEquals(testProject.getId(), result.getId());
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByIdAndUser(projectId, testUser);
-    }
-
-    @Test
-    void getProjectEntity_WithUserNotFound_ShouldThrowException() {
-        // Given
-        Long projectId = 1L;
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.empty());
-
-        // When & Then
-        assertThrows(UsernameNotFoundException.class,
-            () -> projectService.getProjectEntity(userEmail, projectId));
-
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, never()).findByIdAndUser(anyLong(), any(User.class));
+        verifyNoInteractions(userRepository);
+        verify(projectRepository, times(1)).findByIdAndUserId(projectId, userId);
     }
 
     @Test
     void getProjectProgress_WithNoTasks_ShouldReturnZeroProgress() {
         // Given
         Long projectId = 1L;
-        testProject.setTasks(new ArrayList<>());
-
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByIdAndUser(projectId, testUser)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.countTasksByProjectId(projectId)).thenReturn(counts(0, 0));
 
         // When
-        ResponseEntity<?> result = projectService.getProjectProgress(userEmail, projectId);
+        ResponseEntity<?> result = projectService.getProjectProgress(userId, projectId);
 
         // Then
         assertNotNull(result);
@@ -289,35 +246,20 @@ class ProjectServiceTest {
         assertEquals(0, progress.getCompletedTasks());
         assertEquals(0.0, progress.getProgressPercentage());
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByIdAndUser(projectId, testUser);
+        verifyNoInteractions(userRepository);
+        verify(projectRepository, times(1)).findByIdAndUserId(projectId, userId);
     }
 
     @Test
-    void getProjectProgress_WithSomeTasks_ShouldCalculateCorrectProgress() {
+    void getProjectProgress_WithSomeTasks_ShouldCountInsteadOfLoadingTasks() {
         // Given
         Long projectId = 1L;
-
-        Task completedTask = new Task();
-        completedTask.setId(1L);
-        completedTask.setCompleted(true);
-
-        Task pendingTask1 = new Task();
-        pendingTask1.setId(2L);
-        pendingTask1.setCompleted(false);
-
-        Task pendingTask2 = new Task();
-        pendingTask2.setId(3L);
-        pendingTask2.setCompleted(false);
-
-        List<Task> tasks = Arrays.asList(completedTask, pendingTask1, pendingTask2);
-        testProject.setTasks(tasks);
-
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByIdAndUser(projectId, testUser)).thenReturn(Optional.of(testProject));
+        Project project = spy(testProject);
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(project));
+        when(projectRepository.countTasksByProjectId(projectId)).thenReturn(counts(3, 1));
 
         // When
-        ResponseEntity<?> result = projectService.getProjectProgress(userEmail, projectId);
+        ResponseEntity<?> result = projectService.getProjectProgress(userId, projectId);
 
         // Then
         assertNotNull(result);
@@ -327,84 +269,170 @@ class ProjectServiceTest {
         assertEquals(1, progress.getCompletedTasks());
         assertEquals(33.333333333333336, progress.getProgressPercentage(), 0.01);
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByIdAndUser(projectId, testUser);
+        verify(project, never()).getTasks();
+        verify(toggleCoalescer, times(1)).flushProject(projectId);
     }
 
     @Test
     void getProjectProgress_WithAllTasksCompleted_ShouldReturn100Percent() {
         // Given
         Long projectId = 1L;
-
-        Task completedTask1 = new Task();
-        completedTask1.setId(1L);
-        completedTask1.setCompleted(true);
-
-        Task completedTask2 = new Task();
-        completedTask2.setId(2L);
-        completedTask2.setCompleted(true);
-
-        List<Task> tasks = Arrays.asList(completedTask1, completedTask2);
-        testProject.setTasks(tasks);
-
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByIdAndUser(projectId, testUser)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.of(testProject));
+        when(projectRepository.countTasksByProjectId(projectId)).thenReturn(counts(2, 2));
 
         // When
-        ResponseEntity<?> result = projectService.getProjectProgress(userEmail, projectId);
+        ResponseEntity<?> result = projectService.getProjectProgress(userId, projectId);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.getBody() instanceof ProgressResponse);
         ProgressResponse progress = (ProgressResponse) result.getBody();
         assertEquals(2, progress.getTotalTasks());
         assertEquals(2, progress.getCompletedTasks());
         assertEquals(100.0, progress.getProgressPercentage());
+    }
+
+    @Test
+    void getUserProgress_ShouldAggregateAcrossProjects() {
+        // Given
+        when(projectRepository.countTasksByUserId(userId)).thenReturn(counts(8, 2));
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByIdAndUser(projectId, testUser);
+        // When
+        ProgressResponse progress = projectService.getUserProgress(userId);
+
+        // Then
+        assertEquals(8, progress.getTotalTasks());
+        assertEquals(2, progress.getCompletedTasks());
+        assertEquals(25.0, progress.getProgressPercentage(), 0.01);
+        verify(toggleCoalescer, times(1)).flushUser(userId);
     }
 
     @Test
     void getProjectProgress_WithProjectNotFound_ShouldThrowException() {
         // Given
         Long projectId = 999L;
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByIdAndUser(projectId, testUser)).thenReturn(Optional.empty());
+        when(projectRepository.findByIdAndUserId(projectId, userId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> projectService.getProjectProgress(userEmail, projectId));
+            () -> projectService.getProjectProgress(userId, projectId));
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByIdAndUser(projectId, testUser);
+        verifyNoInteractions(userRepository);
+        verify(projectRepository, times(1)).findByIdAndUserId(projectId, userId);
     }
 
     @Test
     void createProject_WhenRepositoryThrowsException_ShouldPropagateException() {
         // Given
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
+        when(userRepository.getReferenceById(userId)).thenReturn(testUser);
         when(projectRepository.save(any(Project.class))).thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> projectService.createProject(userEmail, projectRequest));
+            () -> projectService.createProject(userId, projectRequest));
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
+        verify(userRepository, times(1)).getReferenceById(userId);
         verify(projectRepository, times(1)).save(any(Project.class));
     }
 
     @Test
     void getUserProjects_WhenRepositoryThrowsException_ShouldPropagateException() {
         // Given
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByUser(testUser)).thenThrow(new RuntimeException("Database error"));
+        when(projectRepository.findResponsesByUserId(userId)).thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> projectService.getUserProjects(userEmail));
+            () -> projectService.getUserProjects(userId));
+
+        verifyNoInteractions(userRepository);
+        verify(projectRepository, times(1)).findResponsesByUserId(userId);
+    }
+
+    @Test
+    void getUserProjectSummaries_SortedByProgress_ShouldAddIdTiebreakerAndMapCounts() {
+        // Given
+        Pageable requested = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "progress"));
+        Pageable expected = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "progress").and(Sort.by("id")));
+        when(projectRepository.findSummariesByUserId(userId, expected))
+                .thenReturn(new PageImpl<>(List.of(summary(1L, 4, 3), summary(2L, 0, 0)), expected, 2));
+
+        // When
+        Page<ProjectSummaryResponse> result = projectService.getUserProjectSummaries(userId, requested);
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        ProjectSummaryResponse first = result.getContent().get(0);
+        assertEquals(4, first.getTotalTasks());
+        assertEquals(3, first.getCompletedTasks());
+        assertEquals(75.0, first.getProgressPercentage(), 0.01);
+        assertEquals(0.0, result.getContent().get(1).getProgressPercentage(), 0.01);
+        verify(toggleCoalescer, times(1)).flushUser(userId);
+    }
+
+    @Test
+    void getUserProjectSummaries_WithUnsupportedSort_ShouldThrowException() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("user.password"));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> projectService.getUserProjectSummaries(userId, pageable));
+
+        assertEquals("Unsupported sort property: user.password", exception.getMessage());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void getUserProjectSummaries_WithPageAboveLimit_ShouldThrowException() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 101);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> projectService.getUserProjectSummaries(userId, pageable));
+
+        assertEquals("Page size must be between 1 and 100", exception.getMessage());
+        verifyNoInteractions(projectRepository);
+    }
+
+    private static ProjectRepository.TaskCounts counts(long total, long completed) {
+        return new ProjectRepository.TaskCounts() {
+            @Override
+            public long getTotalTasks() {
+                return total;
+            }
+
+            @Override
+            public long getCompletedTasks() {
+                return completed;
+            }
+        };
+    }
 
-        verify(userRepository, times(1)).findByEmail(userEmail);
-        verify(projectRepository, times(1)).findByUser(testUser);
+    private static ProjectRepository.Summary summary(Long id, long total, long completed) {
+        return new ProjectRepository.Summary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Project " + id;
+            }
+
+            @Override
+            public String getDescription() {
+                return null;
+            }
+
+            @Override
+            public long getTotalTasks() {
+                return total;
+            }
+
+            @Override
+            public long getCompletedTasks() {
+                return completed;
+            }
+        };
     }
 }
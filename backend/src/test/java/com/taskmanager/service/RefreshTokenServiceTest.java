@@ -0,0 +1,147 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.RefreshToken;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpiration", 1209600000L);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+    }
+
+    @Test
+    void issue_ShouldPersistHashInsteadOfRawToken() {
+        // Given
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        String rawToken = refreshTokenService.issue(testUser);
+
+        // Then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+        assertNotNull(rawToken);
+        assertEquals(64, saved.getTokenHash().length());
+        assertNotEquals(rawToken, saved.getTokenHash());
+        assertEquals(testUser, saved.getUser());
+        assertTrue(saved.getExpiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void rotate_WithActiveToken_ShouldRevokeItAndIssueReplacement() {
+        // Given
+        RefreshToken current = refreshToken(false, Instant.now().plusSeconds(3600));
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.revokeIfActive(current.getId())).thenReturn(1);
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<RefreshTokenService.Rotation> result = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(testUser, result.get().user());
+        assertNotEquals("raw-token", result.get().refreshToken());
+        verify(refreshTokenRepository, never()).revokeAllForUser(anyLong());
+    }
+
+    @Test
+    void rotate_WithRevokedToken_ShouldRevokeAllUserTokens() {
+        // Given
+        RefreshToken reused = refreshToken(true, Instant.now().plusSeconds(3600));
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.of(reused));
+
+        // When
+        Optional<RefreshTokenService.Rotation> result = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(refreshTokenRepository).revokeAllForUser(testUser.getId());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void rotate_WhenConcurrentRequestAlreadyRotated_ShouldRevokeAllUserTokens() {
+        // Given
+        RefreshToken current = refreshToken(false, Instant.now().plusSeconds(3600));
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.revokeIfActive(current.getId())).thenReturn(0);
+
+        // When
+        Optional<RefreshTokenService.Rotation> result = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(refreshTokenRepository).revokeAllForUser(testUser.getId());
+    }
+
+    @Test
+    void rotate_WithExpiredToken_ShouldReturnEmpty() {
+        // Given
+        RefreshToken expired = refreshToken(false, Instant.now().minusSeconds(60));
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.of(expired));
+        when(refreshTokenRepository.revokeIfActive(expired.getId())).thenReturn(1);
+
+        // When
+        Optional<RefreshTokenService.Rotation> result = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void rotate_WithUnknownToken_ShouldReturnEmpty() {
+        // Given
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.empty());
+
+        // When
+        Optional<RefreshTokenService.Rotation> result = refreshTokenService.rotate("unknown");
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(refreshTokenRepository, never()).revokeAllForUser(anyLong());
+    }
+
+    private RefreshToken refreshToken(boolean revoked, Instant expiresAt) {
+        RefreshToken token = new RefreshToken();
+        token.setId(10L);
+        token.setTokenHash("hash");
+        token.setUser(testUser);
+        token.setRevoked(revoked);
+        token.setExpiresAt(expiresAt);
+        return token;
+    }
+}
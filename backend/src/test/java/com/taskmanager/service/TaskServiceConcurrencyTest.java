@@ -0,0 +1,155 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.RetryConfig;
+import com.taskmanager.mapper.ProjectMapper;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers a single task from many threads against a real database to check
+ * that optimistic locking plus retries never loses or double-applies an
+ * update.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "tasks.optimistic-retry.max-attempts=50"
+})
+@Import({TaskService.class, ProjectService.class, TaskMapper.class, ProjectMapper.class, RetryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int CALLS_PER_THREAD = 25;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private TaskToggleCoalescer toggleCoalescer;
+
+    private Long userId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("stress-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("password");
+        user.setFirstName("Stress");
+        user.setLastName("Test");
+        userId = userRepository.save(user).getId();
+
+        Project project = new Project();
+        project.setTitle("Hot project");
+        project.setUser(user);
+        projectRepository.save(project);
+
+        Task task = new Task();
+        task.setTitle("Hot task");
+        task.setCompleted(false);
+        task.setProject(project);
+        taskId = taskRepository.save(task).getId();
+    }
+
+    @Test
+    void toggleTaskCompletion_FromManyThreads_ShouldNotLoseUpdates() throws Exception {
+        // When
+        int[] outcome = hammer(() -> taskService.toggleTaskCompletion(userId, taskId));
+        int succeeded = outcome[0];
+        int gaveUp = outcome[1];
+
+        // Then
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(THREADS * CALLS_PER_THREAD, succeeded + gaveUp);
+        assertTrue(succeeded > 0);
+        // Every acknowledged toggle committed exactly one version: none lost, none applied twice
+        assertEquals(succeeded, task.getVersion());
+        assertEquals(succeeded % 2 == 1, task.isCompleted());
+    }
+
+    @Test
+    void setTaskCompletion_FromManyThreads_ShouldApplyOnce() throws Exception {
+        // When
+        int[] outcome = hammer(() -> taskService.setTaskCompletion(userId, taskId, true));
+
+        // Then
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(THREADS * CALLS_PER_THREAD, outcome[0]);
+        assertTrue(task.isCompleted());
+        assertEquals(1, task.getVersion());
+    }
+
+    /**
+     * Runs the call from all threads at once.
+     *
+     * @return the number of calls that succeeded and that gave up on a conflict
+     */
+    private int[] hammer(Runnable call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger gaveUp = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < CALLS_PER_THREAD; j++) {
+                        try {
+                            call.run();
+                            succeeded.incrementAndGet();
+                        } catch (ConcurrencyFailureException e) {
+                            gaveUp.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new int[] {succeeded.get(), gaveUp.get()};
+    }
+}
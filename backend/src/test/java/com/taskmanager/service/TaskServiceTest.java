@@ -1,7 +1,13 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.AgendaResponse;
+import com.taskmanager.dto.TaskFilter;
 import com.taskmanager.dto.TaskRequest;
 import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.dto.TaskVersion;
+import com.taskmanager.event.TaskEvent;
+import com.taskmanager.mapper.TaskJsonCache;
+import com.taskmanager.mapper.TaskMapper;
 import com.taskmanager.model.Project;
 import com.taskmanager.model.Task;
 import com.taskmanager.model.User;
@@ -11,7 +17,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -20,7 +34,6 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +45,18 @@ class TaskServiceTest {
     @Mock
     private ProjectService projectService;
 
+    @Spy
+    private TaskMapper taskMapper = new TaskMapper();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskToggleCoalescer toggleCoalescer;
+
+    @Mock
+    private TaskJsonCache taskJsonCache;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -39,19 +64,19 @@ class TaskServiceTest {
     private Project testProject;
     private Task testTask;
     private TaskRequest taskRequest;
-    private String userEmail;
+    private Long userId;
     private Long projectId;
     private Long taskId;
 
     @BeforeEach
     void setUp() {
-        userEmail = "test@example.com";
+        userId = 1L;
         projectId = 1L;
         taskId = 1L;
 
         testUser = new User();
-        testUser.setId(1L);
-        testUser.setEmail(userEmail);
+        testUser.setId(userId);
+        testUser.setEmail("test@example.com");
 
         testProject = new Project();
         testProject.setId(projectId);
@@ -75,11 +100,11 @@ class TaskServiceTest {
     @Test
     void createTask_WithValidRequest_ShouldCreateAndReturnTask() {
         // Given
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
-        TaskResponse result = taskService.createTask(userEmail, projectId, taskRequest);
+        TaskResponse result = taskService.createTask(userId, projectId, taskRequest);
 
         // Then
         assertNotNull(result);
@@ -90,37 +115,39 @@ class TaskServiceTest {
         assertFalse(result.isCompleted());
         assertEquals(projectId, result.getProjectId());
 
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.of(TaskEvent.Type.CREATED, result));
     }
 
     @Test
     void createTask_WithProjectNotFound_ShouldThrowException() {
         // Given
-        when(projectService.getProjectEntity(userEmail, projectId))
+        when(projectService.getProjectEntity(userId, projectId))
                 .thenThrow(new RuntimeException("Project not found"));
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.createTask(userEmail, projectId, taskRequest));
+            () -> taskService.createTask(userId, projectId, taskRequest));
 
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
         verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void createTask_WithNullTitle_ShouldStillCreate() {
         // Given
         taskRequest.setTitle(null);
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
-        TaskResponse result = taskService.createTask(userEmail, projectId, taskRequest);
+        TaskResponse result = taskService.createTask(userId, projectId, taskRequest);
 
         // Then
         assertNotNull(result);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
@@ -128,15 +155,15 @@ class TaskServiceTest {
     void createTask_WithNullDueDate_ShouldStillCreate() {
         // Given
         taskRequest.setDueDate(null);
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
-        TaskResponse result = taskService.createTask(userEmail, projectId, taskRequest);
+        TaskResponse result = taskService.createTask(userId, projectId, taskRequest);
 
         // Then
         assertNotNull(result);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
@@ -144,15 +171,15 @@ class TaskServiceTest {
     void createTask_WithEmptyDescription_ShouldStillCreate() {
         // Given
         taskRequest.setDescription("");
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
-        TaskResponse result = taskService.createTask(userEmail, projectId, taskRequest);
+        TaskResponse result = taskService.createTask(userId, projectId, taskRequest);
 
         // Then
         assertNotNull(result);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
@@ -169,11 +196,11 @@ class TaskServiceTest {
 
         List<Task> tasks = Arrays.asList(testTask, task2);
 
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
-        when(taskRepository.findByProject(testProject)).thenReturn(tasks);
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
+        when(taskRepository.findResponsesByProjectId(projectId)).thenReturn(taskMapper.toResponseList(tasks));
 
         // When
-        List<TaskResponse> result = taskService.getProjectTasks(userEmail, projectId);
+        List<TaskResponse> result = taskService.getProjectTasks(userId, projectId);
 
         // Then
         assertNotNull(result);
@@ -181,39 +208,59 @@ class TaskServiceTest {
         assertEquals(testTask.getId(), result.get(0).getId());
         assertEquals(task2.getId(), result.get(1).getId());
 
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
-        verify(taskRepository, times(1)).findByProject(testProject);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
+        verify(toggleCoalescer, times(1)).flushProject(projectId);
+        verify(taskRepository, times(1)).findResponsesByProjectId(projectId);
     }
 
     @Test
     void getProjectTasks_WithProjectNotFound_ShouldThrowException() {
         // Given
-        when(projectService.getProjectEntity(userEmail, projectId))
+        when(projectService.getProjectEntity(userId, projectId))
                 .thenThrow(new RuntimeException("Project not found"));
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.getProjectTasks(userEmail, projectId));
+            () -> taskService.getProjectTasks(userId, projectId));
 
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
-        verify(taskRepository, never()).findByProject(any(Project.class));
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
+        verify(taskRepository, never()).findResponsesByProjectId(any());
     }
 
     @Test
     void getProjectTasks_WithNoTasks_ShouldReturnEmptyList() {
         // Given
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
-        when(taskRepository.findByProject(testProject)).thenReturn(Arrays.asList());
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
+        when(taskRepository.findResponsesByProjectId(projectId)).thenReturn(taskMapper.toResponseList(Arrays.asList()));
 
         // When
-        List<TaskResponse> result = taskService.getProjectTasks(userEmail, projectId);
+        List<TaskResponse> result = taskService.getProjectTasks(userId, projectId);
 
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
-        verify(taskRepository, times(1)).findByProject(testProject);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
+        verify(taskRepository, times(1)).findResponsesByProjectId(projectId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getProjectTasksJson_ShouldReadVersionsInsteadOfFullRows() {
+        // Given
+        List<TaskVersion> versions = List.of(new TaskVersion(taskId, 2));
+        when(taskJsonCache.isEnabled()).thenReturn(true);
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
+        when(taskRepository.findVersions(any(Specification.class), eq(Sort.by("id")))).thenReturn(versions);
+        when(taskJsonCache.toJson(eq(versions), any())).thenReturn(List.of());
+
+        // When
+        taskService.getProjectTasksJson(userId, projectId);
+
+        // Then
+        verify(toggleCoalescer).flushProject(projectId);
+        verify(taskJsonCache).toJson(eq(versions), any());
+        verify(taskRepository, never()).findResponsesByProjectId(any());
     }
 
     @Test
@@ -227,175 +274,200 @@ class TaskServiceTest {
         completedTask.setCompleted(true);
         completedTask.setProject(testProject);
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
         when(taskRepository.save(any(Task.class))).thenReturn(completedTask);
 
         // When
-        TaskResponse result = taskService.completeTask(userEmail, taskId);
+        TaskResponse result = taskService.completeTask(userId, taskId);
 
         // Then
         assertNotNull(result);
         assertEquals(taskId, result.getId());
         assertTrue(result.isCompleted());
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
     @Test
     void completeTask_WithTaskNotFound_ShouldThrowException() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.completeTask(userEmail, taskId));
+            () -> taskService.completeTask(userId, taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, never()).getProjectEntity(anyString(), anyLong());
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
         verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
     void completeTask_WithTaskNotBelongingToUser_ShouldThrowException() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
-        when(projectService.getProjectEntity(userEmail, projectId))
-                .thenThrow(new RuntimeException("Task does not belong to user's project"));
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.completeTask(userEmail, taskId));
+            () -> taskService.completeTask(userId, taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
         verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
-    void completeTask_WithAlreadyCompletedTask_ShouldStillUpdate() {
+    void completeTask_WithAlreadyCompletedTask_ShouldBeNoOp() {
         // Given
         testTask.setCompleted(true);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
 
         // When
-        TaskResponse result = taskService.completeTask(userEmail, taskId);
+        TaskResponse result = taskService.completeTask(userId, taskId);
 
         // Then
         assertNotNull(result);
         assertTrue(result.isCompleted());
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void setTaskCompletion_WithCompletedTaskAndFalse_ShouldReopenAndPublishEvent() {
+        // Given
+        testTask.setCompleted(true);
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TaskResponse result = taskService.setTaskCompletion(userId, taskId, false);
+
+        // Then
+        assertFalse(result.isCompleted());
+        verify(toggleCoalescer, times(1)).flushTask(taskId);
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.of(TaskEvent.Type.REOPENED, result));
+    }
+
+    @Test
+    void setTaskCompletion_RepeatedWithSameState_ShouldWriteOnce() {
+        // Given
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TaskResponse first = taskService.setTaskCompletion(userId, taskId, true);
+        TaskResponse second = taskService.setTaskCompletion(userId, taskId, true);
+
+        // Then
+        assertTrue(first.isCompleted());
+        assertEquals(first, second);
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskEvent.class));
     }
 
     @Test
     void deleteTask_WithValidTask_ShouldDeleteTask() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
 
         // When
-        taskService.deleteTask(userEmail, taskId);
+        taskService.deleteTask(userId, taskId);
 
         // Then
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
         verify(taskRepository, times(1)).delete(testTask);
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.deleted(projectId, taskId));
     }
 
     @Test
     void deleteTask_WithTaskNotFound_ShouldThrowException() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.deleteTask(userEmail, taskId));
+            () -> taskService.deleteTask(userId, taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, never()).getProjectEntity(anyString(), anyLong());
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
         verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
     void deleteTask_WithTaskNotBelongingToUser_ShouldThrowException() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
-        when(projectService.getProjectEntity(userEmail, projectId))
-                .thenThrow(new RuntimeException("Task does not belong to user's project"));
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.deleteTask(userEmail, taskId));
+            () -> taskService.deleteTask(userId, taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
         verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
     void deleteTask_WhenRepositoryThrowsException_ShouldPropagateException() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
         doThrow(new RuntimeException("Database error")).when(taskRepository).delete(testTask);
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.deleteTask(userEmail, taskId));
+            () -> taskService.deleteTask(userId, taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
         verify(taskRepository, times(1)).delete(testTask);
     }
 
     @Test
     void createTask_WhenRepositoryThrowsException_ShouldPropagateException() {
         // Given
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
         when(taskRepository.save(any(Task.class))).thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.createTask(userEmail, projectId, taskRequest));
+            () -> taskService.createTask(userId, projectId, taskRequest));
 
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
     @Test
     void getProjectTasks_WhenRepositoryThrowsException_ShouldPropagateException() {
         // Given
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
-        when(taskRepository.findByProject(testProject)).thenThrow(new RuntimeException("Database error"));
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
+        when(taskRepository.findResponsesByProjectId(projectId)).thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.getProjectTasks(userEmail, projectId));
+            () -> taskService.getProjectTasks(userId, projectId));
 
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
-        verify(taskRepository, times(1)).findByProject(testProject);
+        verify(projectService, times(1)).getProjectEntity(userId, projectId);
+        verify(taskRepository, times(1)).findResponsesByProjectId(projectId);
     }
 
     @Test
     void completeTask_WhenRepositoryThrowsExceptionOnSave_ShouldPropagateException() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
         when(taskRepository.save(any(Task.class))).thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class,
-            () -> taskService.completeTask(userEmail, taskId));
+            () -> taskService.completeTask(userId, taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
@@ -403,28 +475,27 @@ class TaskServiceTest {
     void getTaskEntity_WithValidTaskAndUser_ShouldReturnTask() {
         // This tests the private method indirectly through completeTask
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(testTask));
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
-        TaskResponse result = taskService.completeTask(userEmail, taskId);
+        TaskResponse result = taskService.completeTask(userId, taskId);
 
         // Then
         assertNotNull(result);
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(1)).getProjectEntity(userEmail, projectId);
+        verify(taskRepository, times(1)).findByIdAndUserId(taskId, userId);
+        verifyNoInteractions(projectService);
     }
 
     @Test
     void mapToResponse_ShouldMapAllFields() {
         // This tests the private method indirectly through getProjectTasks
         // Given
-        when(projectService.getProjectEntity(userEmail, projectId)).thenReturn(testProject);
-        when(taskRepository.findByProject(testProject)).thenReturn(Arrays.asList(testTask));
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
+        when(taskRepository.findResponsesByProjectId(projectId)).thenReturn(taskMapper.toResponseList(Arrays.asList(testTask)));
 
         // When
-        List<TaskResponse> result = taskService.getProjectTasks(userEmail, projectId);
+        List<TaskResponse> result = taskService.getProjectTasks(userId, projectId);
 
         // Then
         assertNotNull(result);
@@ -437,4 +508,122 @@ class TaskServiceTest {
         assertEquals(testTask.isCompleted(), response.isCompleted());
         assertEquals(testTask.getProject().getId(), response.getProjectId());
     }
+
+    @Test
+    void toggleTaskCompletion_WithPendingTask_ShouldCompleteAndPublishEvent() {
+        // Given
+        when(taskRepository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TaskResponse result = taskService.toggleTaskCompletion(userId, taskId);
+
+        // Then
+        assertTrue(result.isCompleted());
+        verify(eventPublisher, times(1)).publishEvent(TaskEvent.of(TaskEvent.Type.TOGGLED, result));
+    }
+
+    @Test
+    void getAgenda_WithMoreRowsThanPageSize_ShouldReturnNextCursor() {
+        // Given
+        LocalDate to = LocalDate.now().plusDays(7);
+        TaskResponse first = taskMapper.toResponse(testTask);
+        TaskResponse second = new TaskResponse(2L, "Second Task", null, testTask.getDueDate(), false, projectId);
+        when(taskRepository.findAgenda(eq(userId), eq(to), any(LocalDate.class), eq(Long.MAX_VALUE),
+                eq(PageRequest.of(0, 2)))).thenReturn(Arrays.asList(first, second));
+
+        // When
+        AgendaResponse page = taskService.getAgenda(userId, null, to, null, 1);
+
+        // Then
+        assertEquals(1, page.getTasks().size());
+        assertEquals(taskId, page.getTasks().get(0).getId());
+        assertNotNull(page.getNextCursor());
+        verify(toggleCoalescer).flushUser(userId);
+    }
+
+    @Test
+    void getAgenda_WithCursor_ShouldContinueAfterLastTask() {
+        // Given
+        LocalDate to = LocalDate.now().plusDays(7);
+        TaskResponse task = taskMapper.toResponse(testTask);
+        when(taskRepository.findAgenda(eq(userId), eq(to), any(LocalDate.class), any(Long.class),
+                eq(PageRequest.of(0, 2)))).thenReturn(Arrays.asList(task, task), List.of());
+        String cursor = taskService.getAgenda(userId, null, to, null, 1).getNextCursor();
+
+        // When
+        AgendaResponse page = taskService.getAgenda(userId, null, to, cursor, 1);
+
+        // Then
+        assertTrue(page.getTasks().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(taskRepository).findAgenda(userId, to, testTask.getDueDate(), taskId, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void getAgenda_WithFromDate_ShouldStartOnThatDay() {
+        // Given
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(7);
+        when(taskRepository.findAgenda(userId, to, from.minusDays(1), Long.MAX_VALUE, PageRequest.of(0, 51)))
+                .thenReturn(List.of());
+
+        // When
+        AgendaResponse page = taskService.getAgenda(userId, from, to, null, 50);
+
+        // Then
+        assertTrue(page.getTasks().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getAgenda_WithInvalidCursor_ShouldThrowException() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> taskService.getAgenda(userId, null, LocalDate.now(), "not-a-cursor", 10));
+        assertEquals("Invalid agenda cursor", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getProjectTasksPaginated_ShouldAppendIdTiebreakerToSort() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dueDate"));
+        Pageable expected = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dueDate").and(Sort.by("id")));
+        when(projectService.getProjectEntity(userId, projectId)).thenReturn(testProject);
+        when(taskRepository.findResponses(any(Specification.class), eq(expected)))
+                .thenReturn(new PageImpl<>(List.of(taskMapper.toResponse(testTask)), expected, 1));
+
+        // When
+        Page<TaskResponse> result = taskService.getProjectTasksPaginated(userId, projectId, pageable,
+                new TaskFilter(null, null, false, LocalDate.now(), null));
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(taskId, result.getContent().get(0).getId());
+        verify(toggleCoalescer).flushProject(projectId);
+    }
+
+    @Test
+    void getProjectTasksPaginated_WithUnsupportedSort_ShouldThrowException() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> taskService.getProjectTasksPaginated(userId, projectId, pageable, new TaskFilter()));
+        assertEquals("Unsupported sort property: description", exception.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getProjectTasksPaginated_WithInvertedDueRange_ShouldThrowException() {
+        // Given
+        TaskFilter filter = new TaskFilter(null, null, null, LocalDate.now(), LocalDate.now().minusDays(1));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> taskService.getProjectTasksPaginated(userId, projectId, PageRequest.of(0, 10), filter));
+        assertEquals("dueFrom must not be after dueTo", exception.getMessage());
+    }
 }
@@ -0,0 +1,189 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.event.TaskEvent;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskToggleCoalescerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskToggleCoalescer coalescer;
+    private Long projectId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new TaskToggleCoalescer(taskRepository, eventPublisher, transactionManager, meterRegistry,
+                true);
+        projectId = 10L;
+        userId = 1L;
+    }
+
+    @Test
+    void toggle_RepeatedlyWithinWindow_ShouldReadOnceAndWriteOnce() {
+        // Given
+        when(taskRepository.findResponseByIdAndUserId(1L, userId)).thenReturn(Optional.of(task(1L, false)));
+
+        // When
+        TaskResponse first = coalescer.toggle(userId, 1L);
+        TaskResponse second = coalescer.toggle(userId, 1L);
+        TaskResponse third = coalescer.toggle(userId, 1L);
+        when(taskRepository.findResponsesByIdIn(Set.of(1L))).thenReturn(List.of(task(1L, true)));
+        coalescer.flush();
+
+        // Then
+        assertTrue(first.isCompleted());
+        assertFalse(second.isCompleted());
+        assertTrue(third.isCompleted());
+        verify(taskRepository, times(1)).findResponseByIdAndUserId(1L, userId);
+        verify(taskRepository, times(1)).updateCompleted(List.of(1L), true);
+        verify(taskRepository, never()).updateCompleted(anyCollection(), eq(false));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskEvent.class));
+        assertEquals(2.0, meterRegistry.counter("tasks.toggles.coalesced").count());
+        assertEquals(1.0, meterRegistry.counter("tasks.toggles.flushed").count());
+    }
+
+    @Test
+    void toggle_BackToOriginalState_ShouldNotWrite() {
+        // Given
+        when(taskRepository.findResponseByIdAndUserId(1L, userId)).thenReturn(Optional.of(task(1L, false)));
+
+        // When
+        coalescer.toggle(userId, 1L);
+        coalescer.toggle(userId, 1L);
+        coalescer.flush();
+
+        // Then
+        verify(taskRepository, never()).updateCompleted(anyCollection(), anyBoolean());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void flush_ShouldBatchTasksByTargetState() {
+        // Given
+        when(taskRepository.findResponseByIdAndUserId(1L, userId)).thenReturn(Optional.of(task(1L, false)));
+        when(taskRepository.findResponseByIdAndUserId(2L, userId)).thenReturn(Optional.of(task(2L, false)));
+        when(taskRepository.findResponseByIdAndUserId(3L, userId)).thenReturn(Optional.of(task(3L, true)));
+        coalescer.toggle(userId, 1L);
+        coalescer.toggle(userId, 2L);
+        coalescer.toggle(userId, 3L);
+
+        // When
+        coalescer.flush();
+
+        // Then
+        verify(taskRepository, times(1)).updateCompleted(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L))),
+                eq(true));
+        verify(taskRepository, times(1)).updateCompleted(List.of(3L), false);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void flushProject_ShouldWriteOnlyThatProjectsToggles() {
+        // Given
+        TaskResponse otherTask = new TaskResponse(2L, "Task 2", null, null, false, 20L);
+        when(taskRepository.findResponseByIdAndUserId(1L, userId)).thenReturn(Optional.of(task(1L, false)));
+        when(taskRepository.findResponseByIdAndUserId(2L, userId)).thenReturn(Optional.of(otherTask));
+        coalescer.toggle(userId, 1L);
+        coalescer.toggle(userId, 2L);
+
+        // When
+        coalescer.flushProject(10L);
+
+        // Then
+        verify(taskRepository, times(1)).updateCompleted(List.of(1L), true);
+        verify(taskRepository, never()).updateCompleted(eq(List.of(2L)), anyBoolean());
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldKeepTogglesForNextFlush() {
+        // Given
+        when(taskRepository.findResponseByIdAndUserId(1L, userId)).thenReturn(Optional.of(task(1L, false)));
+        coalescer.toggle(userId, 1L);
+        when(taskRepository.updateCompleted(List.of(1L), true))
+                .thenThrow(new IllegalStateException("Connection refused"))
+                .thenReturn(1);
+
+        // When
+        coalescer.flush();
+        TaskResponse afterFailure = coalescer.toggle(userId, 1L);
+        coalescer.toggle(userId, 1L);
+        coalescer.flush();
+
+        // Then
+        assertFalse(afterFailure.isCompleted());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(taskRepository, times(2)).updateCompleted(List.of(1L), true);
+        verify(taskRepository, times(1)).findResponseByIdAndUserId(1L, userId);
+    }
+
+    @Test
+    void flushProject_WhenCallersTransactionRollsBack_ShouldKeepTogglesForNextFlush() {
+        // Given
+        when(taskRepository.findResponseByIdAndUserId(1L, userId)).thenReturn(Optional.of(task(1L, false)));
+        coalescer.toggle(userId, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        try {
+            coalescer.flushProject(projectId);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+        coalescer.flush();
+
+        // Then
+        verify(taskRepository, times(2)).updateCompleted(List.of(1L), true);
+        verify(taskRepository, times(1)).findResponseByIdAndUserId(1L, userId);
+        assertEquals(1.0, meterRegistry.counter("tasks.toggles.flushed").count());
+    }
+
+    @Test
+    void toggle_WithOtherUsersPendingTask_ShouldThrowException() {
+        // Given
+        when(taskRepository.findResponseByIdAndUserId(1L, userId)).thenReturn(Optional.of(task(1L, false)));
+        coalescer.toggle(userId, 1L);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> coalescer.toggle(2L, 1L));
+        assertEquals("Task not found or access denied", exception.getMessage());
+    }
+
+    private TaskResponse task(Long id, boolean completed) {
+        return new TaskResponse(id, "Task " + id, null, null, completed, projectId);
+    }
+}
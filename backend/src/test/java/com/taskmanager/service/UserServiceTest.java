@@ -1,5 +1,6 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.RegisterRequest;
 import com.taskmanager.model.User;
 import com.taskmanager.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -163,18 +164,17 @@ class UserServiceTest {
     }
 
     @Test
-    void save_WithNewUser_ShouldEncodePasswordAndSave() {
+    void save_WithNewUser_ShouldSaveWithoutEncoding() {
         // Given
         User newUser = new User();
         newUser.setEmail("newuser@example.com");
-        newUser.setPassword(rawPassword);
+        newUser.setPassword(encodedPassword);
 
         User savedUser = new User();
         savedUser.setId(2L);
         savedUser.setEmail("newuser@example.com");
         savedUser.setPassword(encodedPassword);
 
-        when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
 
         // When
@@ -186,43 +186,8 @@ class UserServiceTest {
         assertEquals(savedUser.getEmail(), result.getEmail());
         assertEquals(encodedPassword, result.getPassword());
 
-        verify(passwordEncoder, times(1)).encode(rawPassword);
-        verify(userRepository, times(1)).save(newUser);
-    }
-
-    @Test
-    void save_WithExistingUser_ShouldUpdatePasswordAndSave() {
-        // Given
-        testUser.setPassword(rawPassword); // Set raw password for encoding
-
-        User updatedUser = new User();
-        updatedUser.setId(testUser.getId());
-        updatedUser.setEmail(testUser.getEmail());
-        updatedUser.setPassword(encodedPassword);
-
-        when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
-        when(userRepository.save(testUser)).thenReturn(updatedUser);
-
-        // When
-        User result = userService.save(testUser);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(testUser.getId(), result.getId());
-        assertEquals(testUser.getEmail(), result.getEmail());
-        assertEquals(encodedPassword, result.getPassword());
-
-        verify(passwordEncoder, times(1)).encode(rawPassword);
-        verify(userRepository, times(1)).save(testUser);
-    }
-
-    @Test
-    void save_WithNullUser_ShouldThrowException() {
-        // When & Then
-        assertThrows(RuntimeException.class, () -> userService.save(null));
-
         verify(passwordEncoder, never()).encode(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, times(1)).save(newUser);
     }
 
     @Test
@@ -230,38 +195,46 @@ class UserServiceTest {
         // Given
         User newUser = new User();
         newUser.setEmail("newuser@example.com");
-        newUser.setPassword(rawPassword);
+        newUser.setPassword(encodedPassword);
 
-        when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenThrow(new RuntimeException("Database error"));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> userService.save(newUser));
 
-        verify(passwordEncoder, times(1)).encode(rawPassword);
         verify(userRepository, times(1)).save(newUser);
     }
 
     @Test
-    void save_ShouldModifyOriginalUserPassword() {
+    void registerUser_ShouldStoreTheGivenHash() {
         // Given
-        User newUser = new User();
-        newUser.setEmail("newuser@example.com");
-        newUser.setPassword(rawPassword);
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("newuser@example.com");
+        request.setPassword(rawPassword);
+        request.setFirstName("New");
+        request.setLastName("User");
 
-        String originalPassword = newUser.getPassword();
-
-        when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
-        when(userRepository.save(newUser)).thenReturn(newUser);
+        when(userRepository.findByEmail("newuser@example.com")).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
-        userService.save(newUser);
+        User result = userService.registerUser(request, encodedPassword);
 
         // Then
-        assertNotEquals(originalPassword, newUser.getPassword());
-        assertEquals(encodedPassword, newUser.getPassword());
+        assertEquals(encodedPassword, result.getPassword());
+        verify(passwordEncoder, never()).encode(anyString());
+    }
 
-        verify(passwordEncoder, times(1)).encode(originalPassword);
-        verify(userRepository, times(1)).save(newUser);
+    @Test
+    void updatePasswordHash_ShouldStoreHashWithoutReEncoding() {
+        // Given
+        String upgradedHash = "{bcrypt}$2a$12$upgradedPasswordHash";
+
+        // When
+        userService.updatePasswordHash(testUser.getId(), upgradedHash);
+
+        // Then
+        verify(userRepository, times(1)).updatePassword(testUser.getId(), upgradedHash);
+        verify(passwordEncoder, never()).encode(anyString());
     }
 }
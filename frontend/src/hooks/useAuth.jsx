@@ -59,7 +59,7 @@ export const AuthProvider = ({ children }) => {
       setIsLoading(true);
       const response = await authAPI.login(email, password);
 
-      const { token: newToken, ...userData } = response;
+      const { token: newToken, refreshToken: newRefreshToken, expiresIn, ...userData } = response;
 
       // Save to state
       setToken(newToken);
@@ -67,6 +67,7 @@ export const AuthProvider = ({ children }) => {
 
       // Save to localStorage
       localStorage.setItem('token', newToken);
+      localStorage.setItem('refreshToken', newRefreshToken);
       localStorage.setItem('user', JSON.stringify(userData));
 
       return { success: true, user: userData };
@@ -87,7 +88,7 @@ export const AuthProvider = ({ children }) => {
       const { email, password, firstName, lastName } = userData;
       const response = await authAPI.register(email, password, firstName, lastName);
 
-      const { token: newToken, ...user } = response;
+      const { token: newToken, refreshToken: newRefreshToken, expiresIn, ...user } = response;
 
       // Save to state
       setToken(newToken);
@@ -95,6 +96,7 @@ export const AuthProvider = ({ children }) => {
 
       // Save to localStorage
       localStorage.setItem('token', newToken);
+      localStorage.setItem('refreshToken', newRefreshToken);
       localStorage.setItem('user', JSON.stringify(user));
 
       return { success: true, user };
@@ -110,12 +112,19 @@ export const AuthProvider = ({ children }) => {
   };
 
   const logout = () => {
+    // Revoke the refresh token server-side; local state is cleared regardless
+    const savedRefreshToken = localStorage.getItem('refreshToken');
+    if (savedRefreshToken) {
+      authAPI.logout(savedRefreshToken).catch(() => {});
+    }
+
     // Clear state
     setUser(null);
     setToken(null);
 
     // Clear localStorage
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
 
     // Redirect to login (will be handled by route protection)
@@ -128,13 +137,14 @@ export const AuthProvider = ({ children }) => {
 
   const refreshToken = async () => {
     try {
-      const response = await authAPI.refreshToken();
-      const { token: newToken, ...userData } = response;
+      const response = await authAPI.refreshToken(localStorage.getItem('refreshToken'));
+      const { token: newToken, refreshToken: newRefreshToken, expiresIn, ...userData } = response;
 
       setToken(newToken);
       setUser(userData);
 
       localStorage.setItem('token', newToken);
+      localStorage.setItem('refreshToken', newRefreshToken);
       localStorage.setItem('user', JSON.stringify(userData));
 
       return { success: true };
@@ -25,40 +25,18 @@ const DashboardPage = () => {
       setIsLoading(true);
       setError('');
 
-      // Fetch projects
-      const projects = await projectsAPI.getAll();
-      setRecentProjects(projects.slice(0, 5)); // Show only first 5
-
-      // Calculate stats
-      let totalTasks = 0;
-      let completedTasks = 0;
-
-      // For demo purposes, we'll simulate task counts
-      // In a real app, you'd have a dedicated stats endpoint
-      const statsPromises = projects.map(async (project) => {
-        try {
-          const progress = await projectsAPI.getProgress(project.id);
-          return {
-            total: progress.totalTasks || 0,
-            completed: progress.completedTasks || 0
-          };
-        } catch (err) {
-          return { total: 0, completed: 0 };
-        }
-      });
-
-      const projectStats = await Promise.all(statsPromises);
-
-      totalTasks = projectStats.reduce((sum, stat) => sum + stat.total, 0);
-      completedTasks = projectStats.reduce((sum, stat) => sum + stat.completed, 0);
-
-      const overallProgress = totalTasks > 0 ? (completedTasks / totalTasks) * 100 : 0;
+      // The first 5 projects with their task counts, and task totals across all projects
+      const [summaries, progress] = await Promise.all([
+        projectsAPI.getSummaries({ size: 5 }),
+        projectsAPI.getOverallProgress()
+      ]);
+      setRecentProjects(summaries.content);
 
       setStats({
-        totalProjects: projects.length,
-        totalTasks,
-        completedTasks,
-        overallProgress: Math.round(overallProgress)
+        totalProjects: summaries.totalElements,
+        totalTasks: progress.totalTasks,
+        completedTasks: progress.completedTasks,
+        overallProgress: Math.round(progress.progressPercentage)
       });
 
     } catch (err) {
@@ -246,13 +224,12 @@ const DashboardPage = () => {
                     {project.description}
                   </p>
                 )}
-                {/* Placeholder for project progress */}
                 <div className="mt-auto">
                   <div className="text-xs text-gray-500 mb-2">Progress</div>
                   <div className="w-full bg-gray-200 rounded-full h-2">
                     <div
                       className="bg-blue-500 h-2 rounded-full"
-                      style={{ width: '0%' }}
+                      style={{ width: `${Math.round(project.progressPercentage)}%` }}
                     ></div>
                   </div>
                 </div>
@@ -1,8 +1,27 @@
 import React, { useState, useEffect } from 'react';
 import { useParams, Link, useNavigate } from 'react-router-dom';
-import { projectsAPI, tasksAPI } from '../services/api';
+import { projectsAPI, tasksAPI, subscribeToTaskEvents } from '../services/api';
 import ProgressBar from '../components/ProgressBar';
 
+const applyTaskEvent = (tasks, event) => {
+  if (event.type === 'DELETED') {
+    return tasks.filter(task => task.id !== event.taskId);
+  }
+  if (tasks.some(task => task.id === event.taskId)) {
+    return tasks.map(task => (task.id === event.taskId ? event.task : task));
+  }
+  return [...tasks, event.task];
+};
+
+const computeProgress = (tasks) => {
+  const completedTasks = tasks.filter(task => task.completed).length;
+  return {
+    totalTasks: tasks.length,
+    completedTasks,
+    progressPercentage: tasks.length > 0 ? (completedTasks / tasks.length) * 100 : 0
+  };
+};
+
 const ProjectDetailPage = () => {
   const { projectId } = useParams();
   const navigate = useNavigate();
@@ -34,6 +53,23 @@ const ProjectDetailPage = () => {
     }
   }, [projectId]);
 
+  // Apply changes pushed by the server instead of polling the task list
+  useEffect(() => {
+    if (!projectId) {
+      return undefined;
+    }
+    return subscribeToTaskEvents(projectId, {
+      onEvent: (event) => {
+        setTasks(current => {
+          const updated = applyTaskEvent(current, event);
+          setProgress(computeProgress(updated));
+          return updated;
+        });
+      },
+      onReconnect: () => loadTasksAndProgress(),
+    });
+  }, [projectId]);
+
   useEffect(() => {
     applyFilter();
   }, [tasks, filter]);
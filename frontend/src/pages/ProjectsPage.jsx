@@ -3,9 +3,16 @@ import { Link } from 'react-router-dom';
 import { projectsAPI } from '../services/api';
 import ProgressBar from '../components/ProgressBar';
 
+// Projects fetched per request; the backend caps summary pages at 100
+const PAGE_SIZE = 24;
+
 const ProjectsPage = () => {
   const [projects, setProjects] = useState([]);
+  const [page, setPage] = useState(0);
+  const [hasMore, setHasMore] = useState(false);
+  const [totalProjects, setTotalProjects] = useState(0);
   const [isLoading, setIsLoading] = useState(true);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
   const [error, setError] = useState('');
   const [createFormData, setCreateFormData] = useState({
     title: '',
@@ -22,8 +29,11 @@ const ProjectsPage = () => {
     try {
       setIsLoading(true);
       setError('');
-      const data = await projectsAPI.getAll();
-      setProjects(data);
+      const data = await projectsAPI.getSummaries({ page: 0, size: PAGE_SIZE });
+      setProjects(data.content);
+      setPage(0);
+      setHasMore(!data.last);
+      setTotalProjects(data.totalElements);
     } catch (err) {
       console.error('Failed to load projects:', err);
       setError('Failed to load projects. Please try again.');
@@ -32,6 +42,27 @@ const ProjectsPage = () => {
     }
   };
 
+  const loadMoreProjects = async () => {
+    try {
+      setIsLoadingMore(true);
+      setError('');
+      const data = await projectsAPI.getSummaries({ page: page + 1, size: PAGE_SIZE });
+      // A project created on this page may already be listed
+      setProjects(prev => [
+        ...prev,
+        ...data.content.filter(project => !prev.some(existing => existing.id === project.id))
+      ]);
+      setPage(page + 1);
+      setHasMore(!data.last);
+      setTotalProjects(data.totalElements);
+    } catch (err) {
+      console.error('Failed to load more projects:', err);
+      setError('Failed to load more projects. Please try again.');
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   const handleCreateProject = async (e) => {
     e.preventDefault();
 
@@ -45,7 +76,8 @@ const ProjectsPage = () => {
       setCreateError('');
 
       const newProject = await projectsAPI.create(createFormData);
-      setProjects([...projects, newProject]);
+      setProjects([...projects, { ...newProject, totalTasks: 0, completedTasks: 0, progressPercentage: 0 }]);
+      setTotalProjects(totalProjects + 1);
       setCreateFormData({ title: '', description: '' });
     } catch (err) {
       console.error('Failed to create project:', err);
@@ -155,9 +187,9 @@ const ProjectsPage = () => {
       <div className="section">
         <div className="section-header">
           <h2 className="section-title">Your Projects</h2>
-          {projects.length > 0 && (
+          {totalProjects > 0 && (
             <span className="text-sm text-gray-500">
-              {projects.length} project{projects.length !== 1 ? 's' : ''}
+              {totalProjects} project{totalProjects !== 1 ? 's' : ''}
             </span>
           )}
         </div>
@@ -193,30 +225,29 @@ const ProjectsPage = () => {
             ))}
           </div>
         )}
+
+        {hasMore && (
+          <div className="mt-6 text-center">
+            <button
+              onClick={loadMoreProjects}
+              disabled={isLoadingMore}
+              className="btn-secondary"
+            >
+              {isLoadingMore ? 'Loading...' : 'Load more projects'}
+            </button>
+          </div>
+        )}
       </div>
     </div>
   );
 };
 
-// Project Card Component
+// Project Card Component; counts come with the project list
 const ProjectCard = ({ project }) => {
-  const [progress, setProgress] = useState({ totalTasks: 0, completedTasks: 0, progressPercentage: 0 });
-  const [isLoadingProgress, setIsLoadingProgress] = useState(true);
-
-  useEffect(() => {
-    loadProgress();
-  }, [project.id]);
-
-  const loadProgress = async () => {
-    try {
-      const progressData = await projectsAPI.getProgress(project.id);
-      setProgress(progressData);
-    } catch (err) {
-      console.error('Failed to load progress:', err);
-      setProgress({ totalTasks: 0, completedTasks: 0, progressPercentage: 0 });
-    } finally {
-      setIsLoadingProgress(false);
-    }
+  const progress = {
+    totalTasks: project.totalTasks,
+    completedTasks: project.completedTasks,
+    progressPercentage: project.progressPercentage
   };
 
   return (
@@ -233,21 +264,14 @@ const ProjectCard = ({ project }) => {
       </div>
 
       <div className="mt-auto">
-        {isLoadingProgress ? (
-          <div className="animate-pulse">
-            <div className="h-2 bg-gray-200 rounded w-full mb-2"></div>
-            <div className="h-4 bg-gray-200 rounded w-24"></div>
-          </div>
-        ) : (
-          <ProgressBar
-            current={progress.completedTasks}
-            total={progress.totalTasks}
-            percentage={progress.progressPercentage}
-            showLabel={false}
-            height="h-2"
-            color="blue"
-          />
-        )}
+        <ProgressBar
+          current={progress.completedTasks}
+          total={progress.totalTasks}
+          percentage={progress.progressPercentage}
+          showLabel={false}
+          height="h-2"
+          color="blue"
+        />
 
         <div className="flex items-center justify-between mt-2 text-sm text-gray-500">
           <span>
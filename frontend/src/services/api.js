@@ -24,15 +24,56 @@ api.interceptors.request.use(
   (error) => Promise.reject(error),
 );
 
+const clearSession = () => {
+  localStorage.removeItem("token");
+  localStorage.removeItem("refreshToken");
+  localStorage.removeItem("user");
+  window.location.href = "/login";
+};
+
+// Access tokens are short-lived; concurrent 401s share a single refresh call
+let refreshPromise = null;
+
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem("refreshToken");
+    refreshPromise = (
+      refreshToken
+        ? axios.post(`${API_BASE_URL}/auth/refresh`, { refreshToken })
+        : Promise.reject(new Error("No refresh token"))
+    )
+      .then((response) => {
+        localStorage.setItem("token", response.data.token);
+        localStorage.setItem("refreshToken", response.data.refreshToken);
+        return response.data.token;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
 // Response interceptor to handle token expiration
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error.response?.status === 401) {
-      // Token expired or invalid
-      localStorage.removeItem("token");
-      localStorage.removeItem("user");
-      window.location.href = "/login";
+  async (error) => {
+    const original = error.config;
+    const isAuthCall = original?.url?.startsWith("/auth/");
+    if (error.response?.status === 401 && original && !original._retried && !isAuthCall) {
+      original._retried = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch (refreshError) {
+        // Refresh token expired or revoked
+        clearSession();
+        return Promise.reject(error);
+      }
+    }
+    if (error.response?.status === 401 && !isAuthCall) {
+      clearSession();
     }
     return Promise.reject(error);
   },
@@ -60,17 +101,22 @@ export const authAPI = {
     return response.data;
   },
 
-  refreshToken: async () => {
-    const response = await api.post("/auth/refresh");
+  refreshToken: async (refreshToken) => {
+    const response = await api.post("/auth/refresh", { refreshToken });
     return response.data;
   },
+
+  logout: async (refreshToken) => {
+    await api.post("/auth/logout", { refreshToken });
+  },
 };
 
 // Projects API
 export const projectsAPI = {
-  // Get all projects (basic list)
-  getAll: async () => {
-    const response = await api.get("/projects");
+  // Get all projects (basic list); pass fields, e.g. ["title"], to fetch only those properties
+  getAll: async (fields = null) => {
+    const params = fields ? { fields: fields.join(",") } : {};
+    const response = await api.get("/projects", { params });
     return response.data;
   },
 
@@ -78,7 +124,7 @@ export const projectsAPI = {
   getPaginated: async (
     page = 0,
     size = 10,
-    sortBy = "createdAt",
+    sortBy = "id",
     sortDir = "desc",
   ) => {
     const response = await api.get("/projects/paginated", {
@@ -118,6 +164,20 @@ export const projectsAPI = {
     await api.delete(`/projects/${id}`);
   },
 
+  // Get projects with task counts in one request (sortBy: id, title, totalTasks, completedTasks, progress)
+  getSummaries: async ({ page = 0, size = 20, sortBy = "id", sortDir = "asc" } = {}) => {
+    const response = await api.get("/projects/summaries", {
+      params: { page, size, sortBy, sortDir },
+    });
+    return response.data;
+  },
+
+  // Get task totals and progress across all of the user's projects
+  getOverallProgress: async () => {
+    const response = await api.get("/projects/progress");
+    return response.data;
+  },
+
   // Get project progress
   getProgress: async (id) => {
     const response = await api.get(`/projects/${id}/progress`);
@@ -134,8 +194,9 @@ export const projectsAPI = {
 // Tasks API
 export const tasksAPI = {
   // Get all tasks for a project
-  getByProject: async (projectId) => {
-    const response = await api.get(`/projects/${projectId}/tasks`);
+  getByProject: async (projectId, fields = null) => {
+    const params = fields ? { fields: fields.join(",") } : {};
+    const response = await api.get(`/projects/${projectId}/tasks`, { params });
     return response.data;
   },
 
@@ -144,7 +205,7 @@ export const tasksAPI = {
     projectId,
     page = 0,
     size = 10,
-    sortBy = "createdAt",
+    sortBy = "id",
     sortDir = "desc",
   ) => {
     const response = await api.get(`/projects/${projectId}/tasks/paginated`, {
@@ -180,6 +241,18 @@ export const tasksAPI = {
     return response.data;
   },
 
+  // Get open tasks due soon or overdue across all projects, one page at a time
+  getAgenda: async ({ from = null, to = null, cursor = null, size = 50 } = {}) => {
+    const params = { size };
+
+    if (from) params.from = from;
+    if (to) params.to = to;
+    if (cursor) params.cursor = cursor;
+
+    const response = await api.get(`/tasks/agenda`, { params });
+    return response.data;
+  },
+
   // Get single task
   getById: async (id) => {
     const response = await api.get(`/tasks/${id}`);
@@ -209,6 +282,12 @@ export const tasksAPI = {
     return response.data;
   },
 
+  // Set task completion status; idempotent, so safe to resend
+  setCompletion: async (id, completed) => {
+    const response = await api.put(`/tasks/${id}/completion`, { completed });
+    return response.data;
+  },
+
   // Toggle task completion status
   toggle: async (id) => {
     const response = await api.put(`/tasks/${id}/toggle`);
@@ -248,6 +327,46 @@ export const tasksAPI = {
   },
 };
 
+// Live task updates over Server-Sent Events. EventSource cannot send headers,
+// so the access token goes in the query string. Returns an unsubscribe function.
+const TASK_EVENT_TYPES = ["created", "completed", "reopened", "toggled", "deleted"];
+
+export const subscribeToTaskEvents = (projectId, { onEvent, onReconnect }) => {
+  let source = null;
+  let closed = false;
+  let connectedBefore = false;
+
+  const connect = () => {
+    const token = localStorage.getItem("token");
+    source = new EventSource(
+      `${API_BASE_URL}/projects/${projectId}/tasks/events?access_token=${encodeURIComponent(token)}`,
+    );
+    source.onopen = () => {
+      // Events sent while disconnected are lost; let the caller resync
+      if (connectedBefore && onReconnect) onReconnect();
+      connectedBefore = true;
+    };
+    TASK_EVENT_TYPES.forEach((type) =>
+      source.addEventListener(type, (message) => onEvent(JSON.parse(message.data))),
+    );
+    source.onerror = () => {
+      // EventSource retries dropped connections by itself, but gives up on an
+      // error status such as an expired token: refresh and reconnect
+      if (source.readyState === EventSource.CLOSED && !closed) {
+        refreshAccessToken()
+          .then(() => !closed && connect())
+          .catch(() => clearSession());
+      }
+    };
+  };
+
+  connect();
+  return () => {
+    closed = true;
+    source?.close();
+  };
+};
+
 // Dashboard API
 export const dashboardAPI = {
   getStats: async () => {
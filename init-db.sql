@@ -51,6 +51,8 @@ CREATE INDEX IF NOT EXISTS idx_projects_user_id ON projects(user_id);
 CREATE INDEX IF NOT EXISTS idx_tasks_project_id ON tasks(project_id);
 CREATE INDEX IF NOT EXISTS idx_tasks_completed ON tasks(completed);
 CREATE INDEX IF NOT EXISTS idx_tasks_due_date ON tasks(due_date);
+-- Agenda (GET /tasks/agenda): open tasks with a due date, per project, in keyset order
+CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date ON tasks(project_id, due_date, id) WHERE completed = FALSE AND due_date IS NOT NULL;
 
 -- Insert default user (password is bcrypt hash of "password123")
 INSERT INTO users (email, password, first_name, last_name)
@@ -0,0 +1,22 @@
+package com.taskmanager.config;
+
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Lifecycle phases for components that hold connections, threads or state
+ * that must not outlive a context stop, whether at shutdown or at a CRaC
+ * checkpoint.
+ */
+public final class LifecyclePhases {
+
+    /**
+     * Stops after the web server has stopped taking requests
+     * ({@code DEFAULT_PHASE - 2048}) and before the connection pool is
+     * suspended (phase 0), so pending writes can still be flushed; starts
+     * again in the reverse order on restore.
+     */
+    public static final int APPLICATION = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private LifecyclePhases() {
+    }
+}
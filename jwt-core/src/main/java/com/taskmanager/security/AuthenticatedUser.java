@@ -0,0 +1,18 @@
+package com.taskmanager.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal built from access-token claims. {@link #getName()} returns the
+ * email, so {@code Authentication.getName()} keeps working for controllers.
+ *
+ * @param id The user's database id
+ * @param email The user's email
+ */
+public record AuthenticatedUser(Long id, String email) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,354 @@
+package com.taskmanager.security;
+
+import com.taskmanager.config.LifecyclePhases;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Key material for access tokens. With {@code HS256} every node shares
+ * {@code jwt.secret}. With {@code RS256}, {@code ES256} or {@code EdDSA}, keys
+ * live in {@code jwt.keys.directory} as PEM pairs named after their key id:
+ * {@code <kid>.pub} (X.509) and, on nodes that issue tokens, {@code <kid>.key}
+ * (PKCS#8). Nodes without a private key can only verify.
+ *
+ * <p>Public keys are parsed once and cached by {@code kid}. A token signed
+ * with an unknown {@code kid} triggers a rescan of the directory, at most once
+ * per {@code jwt.keys.rescan-interval-ms}, so rotated keys are picked up
+ * without a restart. To rotate, add the new pair, switch
+ * {@code jwt.keys.active-kid} on the issuing node, and delete the old
+ * {@code .pub} once tokens signed with it have expired.
+ *
+ * <p>Parsed keys are dropped when the context stops and read again when it
+ * starts, so a CRaC checkpoint image holds no private key and a restored
+ * node picks up the keys currently in the directory. The {@code jwt.secret}
+ * property itself is captured with the rest of the configuration; use an
+ * asymmetric algorithm for nodes restored from a shared image.
+ */
+@Component
+public class JwtKeyProvider implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyProvider.class);
+
+    public static final String HS256 = "HS256";
+    public static final String RS256 = "RS256";
+    public static final String ES256 = "ES256";
+    public static final String EDDSA = "EdDSA";
+
+    private final String algorithm;
+    private final String secret;
+    private final Path directory;
+    private final String activeKid;
+    private final boolean generateIfMissing;
+    private final long rescanIntervalNanos;
+
+    private final Map<String, PublicKey> publicKeys = new ConcurrentHashMap<>();
+    private volatile PrivateKey signingKey;
+    private volatile Key secretKey;
+    private volatile String jwks = "{\"keys\":[]}";
+    private volatile long nextRescanAt;
+    private volatile boolean loaded;
+
+    public JwtKeyProvider(
+            @Value("${jwt.algorithm:HS256}") String algorithm,
+            @Value("${jwt.secret:mySecretKey123456789012345678901234567890}") String secret,
+            @Value("${jwt.keys.directory:./keys}") String directory,
+            @Value("${jwt.keys.active-kid:key-1}") String activeKid,
+            @Value("${jwt.keys.generate-if-missing:true}") boolean generateIfMissing,
+            @Value("${jwt.keys.rescan-interval-ms:30000}") long rescanIntervalMs) {
+        if (!List.of(HS256, RS256, ES256, EDDSA).contains(algorithm)) {
+            throw new IllegalArgumentException("Unsupported jwt.algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.secret = secret;
+        this.directory = Path.of(directory);
+        this.activeKid = activeKid;
+        this.generateIfMissing = generateIfMissing;
+        this.rescanIntervalNanos = TimeUnit.MILLISECONDS.toNanos(rescanIntervalMs);
+        this.nextRescanAt = System.nanoTime();
+    }
+
+    @PostConstruct
+    public void load() {
+        if (HS256.equals(algorithm)) {
+            secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            loaded = true;
+            return;
+        }
+
+        try {
+            Path privateKeyFile = directory.resolve(activeKid + ".key");
+            if (Files.notExists(privateKeyFile) && Files.notExists(directory.resolve(activeKid + ".pub"))
+                    && generateIfMissing) {
+                generateKeyPair();
+            }
+            if (Files.exists(privateKeyFile)) {
+                signingKey = keyFactory().generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKeyFile)));
+            } else {
+                log.info("No private key for kid {}; this node only verifies tokens", activeKid);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load JWT signing key from " + directory, e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT signing key in " + directory, e);
+        }
+        scanPublicKeys();
+        loaded = true;
+    }
+
+    @Override
+    public void start() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    @Override
+    public void stop() {
+        loaded = false;
+        signingKey = null;
+        secretKey = null;
+        publicKeys.clear();
+        jwks = "{\"keys\":[]}";
+    }
+
+    @Override
+    public boolean isRunning() {
+        return loaded;
+    }
+
+    @Override
+    public int getPhase() {
+        return LifecyclePhases.APPLICATION;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return The key id placed in issued token headers, or null for HS256
+     */
+    public String getActiveKid() {
+        return HS256.equals(algorithm) ? null : activeKid;
+    }
+
+    public Key getSigningKey() {
+        if (HS256.equals(algorithm)) {
+            return secretKey;
+        }
+        if (signingKey == null) {
+            throw new IllegalStateException("No private key for kid " + activeKid + "; this node cannot issue tokens");
+        }
+        return signingKey;
+    }
+
+    @SuppressWarnings("unchecked")
+    public SecureDigestAlgorithm<Key, ?> getSignatureAlgorithm() {
+        SecureDigestAlgorithm<?, ?> signatureAlgorithm = switch (algorithm) {
+            case RS256 -> Jwts.SIG.RS256;
+            case ES256 -> Jwts.SIG.ES256;
+            case EDDSA -> Jwts.SIG.EdDSA;
+            default -> Jwts.SIG.HS256;
+        };
+        return (SecureDigestAlgorithm<Key, ?>) signatureAlgorithm;
+    }
+
+    /**
+     * Resolves the verification key for a parsed token header; used as the
+     * parser's key locator.
+     */
+    public Key locate(Header header) {
+        if (HS256.equals(algorithm)) {
+            return secretKey;
+        }
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            throw new InvalidKeyException("Token header has no kid");
+        }
+        PublicKey key = publicKeys.get(kid);
+        if (key == null && rescanAllowed()) {
+            scanPublicKeys();
+            key = publicKeys.get(kid);
+        }
+        if (key == null) {
+            throw new InvalidKeyException("Unknown kid " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * @return The current public keys as a JSON Web Key Set document
+     */
+    public String getJwks() {
+        return jwks;
+    }
+
+    private boolean rescanAllowed() {
+        long now = System.nanoTime();
+        long next = nextRescanAt;
+        if (now - next < 0) {
+            return false;
+        }
+        // Only one thread rescans per interval; the others fail fast
+        synchronized (this) {
+            if (nextRescanAt != next) {
+                return false;
+            }
+            nextRescanAt = now + rescanIntervalNanos;
+            return true;
+        }
+    }
+
+    private synchronized void scanPublicKeys() {
+        Map<String, PublicKey> found = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".pub")).toList()) {
+                String fileName = file.getFileName().toString();
+                String kid = fileName.substring(0, fileName.length() - ".pub".length());
+                PublicKey cached = publicKeys.get(kid);
+                found.put(kid, cached != null ? cached
+                        : keyFactory().generatePublic(new X509EncodedKeySpec(readPem(file))));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan JWT public keys in {}", directory, e);
+            return;
+        } catch (GeneralSecurityException e) {
+            log.warn("Invalid JWT public key in {}", directory, e);
+            return;
+        }
+
+        publicKeys.keySet().retainAll(found.keySet());
+        publicKeys.putAll(found);
+        jwks = toJwks(found);
+        log.info("Loaded JWT public keys {}", found.keySet());
+    }
+
+    private void generateKeyPair() throws IOException, GeneralSecurityException {
+        KeyPairGenerator generator;
+        switch (algorithm) {
+            case RS256 -> {
+                generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+            }
+            case ES256 -> {
+                generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            default -> generator = KeyPairGenerator.getInstance("Ed25519");
+        }
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Files.createDirectories(directory);
+        Path privateKeyFile = directory.resolve(activeKid + ".key");
+        writePem(privateKeyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        try {
+            Files.setPosixFilePermissions(privateKeyFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // Not a POSIX file system
+        }
+        writePem(directory.resolve(activeKid + ".pub"), "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        log.info("Generated {} key pair {} in {}", algorithm, activeKid, directory);
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return switch (algorithm) {
+            case RS256 -> KeyFactory.getInstance("RSA");
+            case ES256 -> KeyFactory.getInstance("EC");
+            default -> KeyFactory.getInstance("Ed25519");
+        };
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        String base64 = Files.readAllLines(file, StandardCharsets.US_ASCII).stream()
+                .filter(line -> !line.startsWith("-----"))
+                .reduce("", String::concat)
+                .trim();
+        return Base64.getMimeDecoder().decode(base64);
+    }
+
+    private static void writePem(Path file, String type, byte[] der) throws IOException {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        Files.writeString(file, "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n",
+                StandardCharsets.US_ASCII);
+    }
+
+    private String toJwks(Map<String, PublicKey> keys) {
+        StringJoiner entries = new StringJoiner(",", "{\"keys\":[", "]}");
+        keys.forEach((kid, key) -> entries.add(toJwk(kid, key)));
+        return entries.toString();
+    }
+
+    private String toJwk(String kid, PublicKey key) {
+        String common = "\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"" + algorithm + "\"";
+        if (key instanceof RSAPublicKey rsa) {
+            return "{\"kty\":\"RSA\"," + common
+                    + ",\"n\":\"" + base64Url(unsigned(rsa.getModulus(), 0)) + "\""
+                    + ",\"e\":\"" + base64Url(unsigned(rsa.getPublicExponent(), 0)) + "\"}";
+        }
+        if (key instanceof ECPublicKey ec) {
+            return "{\"kty\":\"EC\"," + common + ",\"crv\":\"P-256\""
+                    + ",\"x\":\"" + base64Url(unsigned(ec.getW().getAffineX(), 32)) + "\""
+                    + ",\"y\":\"" + base64Url(unsigned(ec.getW().getAffineY(), 32)) + "\"}";
+        }
+        // Ed25519: the raw 32-byte key is the tail of the X.509 encoding
+        byte[] encoded = key.getEncoded();
+        byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+        return "{\"kty\":\"OKP\"," + common + ",\"crv\":\"Ed25519\",\"x\":\"" + base64Url(raw) + "\"}";
+    }
+
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            return padded;
+        }
+        return bytes;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskmanager.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issues and verifies short-lived access tokens. The token carries everything
+ * needed to authenticate a request (user id, email and roles), so verifying
+ * it is pure CPU work with no database access. Long-lived sessions are kept
+ * alive through refresh tokens, see the backend's {@code RefreshTokenService}.
+ * Signing and verification keys come from {@link JwtKeyProvider}.
+ */
+@Component
+public class JwtUtil {
+
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+
+    @Autowired
+    private JwtKeyProvider keyProvider;
+
+    @Value("${jwt.access-expiration:900000}")
+    private Long accessExpiration;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        // The parser is immutable and thread-safe; keys are resolved by kid per token
+        parser = Jwts.parser()
+                .keyLocator(keyProvider::locate)
+                .build();
+    }
+
+    public String generateAccessToken(Long userId, String email, Collection<String> roles) {
+        Date now = new Date();
+        return Jwts.builder()
+                .header().keyId(keyProvider.getActiveKid()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLES_CLAIM, roles)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + accessExpiration))
+                .signWith(keyProvider.getSigningKey(), keyProvider.getSignatureAlgorithm())
+                .compact();
+    }
+
+    /**
+     * Verifies the signature and expiry of an access token.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseAccessToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Builds the request principal from verified access-token claims.
+     *
+     * @throws JwtException if the token predates the user id claim
+     */
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        if (userId == null) {
+            throw new JwtException("Access token has no user id claim");
+        }
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject());
+    }
+
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+    }
+
+    public long getAccessExpirationSeconds() {
+        return accessExpiration / 1000;
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskmanager.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the {@code revoked_tokens} table: a bloom filter in front
+ * of an exact set of revoked {@code jti}s, so checking a token that was never
+ * revoked (the common case) costs a few bit probes. The backend and the
+ * reactive gateway each load it from the database in their own way and share
+ * the lookup, the polling watermark and the rebuild.
+ */
+public class RevocationList {
+
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+
+    private final ConcurrentHashMap<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private volatile Instant watermark = Instant.EPOCH;
+
+    public RevocationList(int expectedEntries, double falsePositiveRate) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * @return true if the token with this id was revoked and has not expired
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * Adds a revocation read from the database and advances the polling
+     * watermark past it.
+     */
+    public void remember(String jti, Instant expiresAt, Instant revokedAt) {
+        add(jti, expiresAt);
+        if (revokedAt.isAfter(watermark)) {
+            watermark = revokedAt;
+        }
+    }
+
+    /**
+     * Adds a revocation made on this node; it reaches other nodes through the
+     * database.
+     */
+    public void add(String jti, Instant expiresAt) {
+        revoked.put(jti, expiresAt);
+        bloomFilter.put(jti);
+    }
+
+    /**
+     * @return Where the next poll starts: the newest {@code revokedAt} seen,
+     *         moved back by the overlap to tolerate clock skew and late commits
+     */
+    public Instant pollFrom(Duration overlap) {
+        return watermark.minus(overlap);
+    }
+
+    /**
+     * Drops expired entries and rebuilds the filter, which cannot forget keys.
+     */
+    public void rebuild(Instant now) {
+        revoked.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // An add() that still wrote to the previous filter has already
+        // added its entry to the exact set, so this second pass catches it
+        revoked.keySet().forEach(rebuilt::put);
+    }
+
+    /**
+     * @return Revoked tokens that have not been dropped as expired yet
+     */
+    public int size() {
+        return revoked.size();
+    }
+}
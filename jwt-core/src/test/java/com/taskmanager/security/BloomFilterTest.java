@@ -0,0 +1,65 @@
+package com.taskmanager.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ForAddedKeys_ShouldAlwaysReturnTrue() {
+        // Given
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        String[] keys = new String[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            filter.put(keys[i]);
+        }
+
+        // When & Then
+        for (String key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+    }
+
+    @Test
+    void mightContain_AtExpectedSize_ShouldStayNearTargetFalsePositiveRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 2000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void mightContain_WhenEmpty_ShouldReturnFalse() {
+        // Given
+        BloomFilter filter = new BloomFilter(100, 0.001);
+
+        // When & Then
+        assertFalse(filter.mightContain("8d3c0c1e-5f4a-4a53-9d4e-6a3f2b1c0d9e"));
+    }
+
+    @Test
+    void constructor_ShouldSizeFromExpectedInsertionsAndRate() {
+        // When
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+
+        // Then
+        assertTrue(filter.bitCount() >= 9586);
+        assertEquals(7, filter.hashCount());
+    }
+}
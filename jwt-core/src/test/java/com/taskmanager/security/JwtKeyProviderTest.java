@@ -0,0 +1,135 @@
+package com.taskmanager.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyProviderTest {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890";
+
+    @TempDir
+    Path keyDirectory;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+    void load_WithMissingKeys_ShouldGeneratePairAndPublishJwks(String algorithm) {
+        // Given
+        JwtKeyProvider provider = provider(algorithm, "key-1");
+
+        // When
+        provider.load();
+
+        // Then
+        assertTrue(Files.exists(keyDirectory.resolve("key-1.key")));
+        assertTrue(Files.exists(keyDirectory.resolve("key-1.pub")));
+        assertTrue(provider.getJwks().contains("\"kid\":\"key-1\""));
+        assertTrue(provider.getJwks().contains("\"alg\":\"" + algorithm + "\""));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"HS256", "RS256", "ES256", "EdDSA"})
+    void parseAccessToken_ShouldVerifyTokenSignedWithActiveKey(String algorithm) {
+        // Given
+        JwtUtil jwtUtil = jwtUtil(provider(algorithm, "key-1"));
+        String token = jwtUtil.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER"));
+
+        // When
+        Claims claims = jwtUtil.parseAccessToken(token);
+
+        // Then
+        assertEquals("test@example.com", claims.getSubject());
+        assertEquals(7L, jwtUtil.toPrincipal(claims).id());
+    }
+
+    @Test
+    void parseAccessToken_OnVerificationOnlyNode_ShouldUsePublicKey() throws Exception {
+        // Given
+        JwtUtil issuer = jwtUtil(provider("ES256", "key-1"));
+        String token = issuer.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER"));
+        Files.delete(keyDirectory.resolve("key-1.key"));
+        JwtUtil verifier = jwtUtil(new JwtKeyProvider("ES256", SECRET, keyDirectory.toString(), "key-1", false, 0));
+
+        // When
+        Claims claims = verifier.parseAccessToken(token);
+
+        // Then
+        assertEquals("test@example.com", claims.getSubject());
+        assertThrows(IllegalStateException.class,
+                () -> verifier.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER")));
+    }
+
+    @Test
+    void parseAccessToken_WithRotatedKey_ShouldRescanForUnknownKid() {
+        // Given
+        JwtUtil verifier = jwtUtil(provider("EdDSA", "key-1"));
+        JwtUtil rotatedIssuer = jwtUtil(provider("EdDSA", "key-2"));
+        String token = rotatedIssuer.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER"));
+
+        // When
+        Claims claims = verifier.parseAccessToken(token);
+
+        // Then
+        assertEquals("test@example.com", claims.getSubject());
+    }
+
+    @Test
+    void parseAccessToken_WithTokenFromForeignKey_ShouldReject() throws Exception {
+        // Given
+        Path otherDirectory = Files.createTempDirectory(keyDirectory, "other");
+        JwtUtil foreignIssuer = jwtUtil(new JwtKeyProvider("ES256", SECRET, otherDirectory.toString(), "key-1", true, 0));
+        JwtUtil verifier = jwtUtil(provider("ES256", "key-1"));
+        String token = foreignIssuer.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER"));
+
+        // When & Then
+        assertThrows(JwtException.class, () -> verifier.parseAccessToken(token));
+    }
+
+    @Test
+    void stopAndStart_ShouldDropKeysAndReloadThemFromDirectory() {
+        // Given
+        JwtKeyProvider provider = provider("RS256", "key-1");
+        JwtUtil jwtUtil = jwtUtil(provider);
+        String token = jwtUtil.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER"));
+
+        // When
+        provider.stop();
+
+        // Then
+        assertFalse(provider.isRunning());
+        assertEquals("{\"keys\":[]}", provider.getJwks());
+        assertThrows(IllegalStateException.class,
+                () -> jwtUtil.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER")));
+
+        // When
+        provider.start();
+
+        // Then
+        assertTrue(provider.isRunning());
+        assertEquals("test@example.com", jwtUtil.parseAccessToken(token).getSubject());
+        assertNotNull(jwtUtil.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER")));
+    }
+
+    private JwtKeyProvider provider(String algorithm, String kid) {
+        return new JwtKeyProvider(algorithm, SECRET, keyDirectory.toString(), kid, true, 0);
+    }
+
+    private JwtUtil jwtUtil(JwtKeyProvider provider) {
+        provider.load();
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "keyProvider", provider);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 900000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
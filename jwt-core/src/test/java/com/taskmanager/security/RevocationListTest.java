@@ -0,0 +1,55 @@
+package com.taskmanager.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationListTest {
+
+    private final RevocationList revocationList = new RevocationList(1000, 0.01);
+
+    @Test
+    void isRevoked_ShouldOnlyMatchAddedTokens() {
+        // Given
+        revocationList.add("revoked", Instant.now().plusSeconds(60));
+
+        // When & Then
+        assertTrue(revocationList.isRevoked("revoked"));
+        assertFalse(revocationList.isRevoked("other"));
+        assertFalse(revocationList.isRevoked(null));
+    }
+
+    @Test
+    void remember_ShouldAdvanceWatermarkToNewestRevocation() {
+        // Given
+        Instant older = Instant.parse("2025-01-01T10:00:00Z");
+        Instant newer = Instant.parse("2025-01-01T11:00:00Z");
+        Instant expiresAt = Instant.parse("2025-01-02T00:00:00Z");
+
+        // When
+        revocationList.remember("b", expiresAt, newer);
+        revocationList.remember("a", expiresAt, older);
+
+        // Then
+        assertEquals(newer.minusSeconds(30), revocationList.pollFrom(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void rebuild_ShouldDropExpiredTokens() {
+        // Given
+        Instant now = Instant.now();
+        revocationList.add("expired", now.minusSeconds(1));
+        revocationList.add("active", now.plusSeconds(60));
+
+        // When
+        revocationList.rebuild(now);
+
+        // Then
+        assertEquals(1, revocationList.size());
+        assertFalse(revocationList.isRevoked("expired"));
+        assertTrue(revocationList.isRevoked("active"));
+    }
+}
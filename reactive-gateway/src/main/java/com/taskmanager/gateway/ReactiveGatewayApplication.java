@@ -0,0 +1,22 @@
+package com.taskmanager.gateway;
+
+import com.taskmanager.security.JwtKeyProvider;
+import com.taskmanager.security.JwtUtil;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Read-only, non-blocking variant of the project and task read endpoints,
+ * for high fan-out clients such as the dashboard. Access tokens issued by the
+ * backend are verified with the same {@link JwtUtil}; writes and login stay on
+ * the servlet backend.
+ */
+@SpringBootApplication
+@Import({JwtKeyProvider.class, JwtUtil.class})
+public class ReactiveGatewayApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveGatewayApplication.class, args);
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanager.gateway.controller;
+
+import com.taskmanager.dto.ProgressResponse;
+import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.gateway.dto.PageResponse;
+import com.taskmanager.gateway.service.ProjectQueryService;
+import com.taskmanager.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/projects")
+public class ProjectReadController {
+
+    @Autowired
+    private ProjectQueryService projectQueryService;
+
+    @GetMapping
+    public Flux<ProjectResponse> getUserProjects(@AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        return projectQueryService.getUserProjects(userId);
+    }
+
+    @GetMapping("/paginated")
+    public Mono<PageResponse<ProjectResponse>> getUserProjectsPaginated(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        return projectQueryService.getUserProjectsPaginated(userId, page, size, sortBy, sortDir);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ProjectResponse> getProject(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        return projectQueryService.getProjectById(userId, id);
+    }
+
+    @GetMapping("/{projectId}/progress")
+    public Mono<ProgressResponse> getProjectProgress(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        return projectQueryService.getProjectProgress(userId, projectId);
+    }
+}
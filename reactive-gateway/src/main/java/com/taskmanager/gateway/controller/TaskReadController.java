@@ -0,0 +1,42 @@
+package com.taskmanager.gateway.controller;
+
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.gateway.dto.PageResponse;
+import com.taskmanager.gateway.service.TaskQueryService;
+import com.taskmanager.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+public class TaskReadController {
+
+    @Autowired
+    private TaskQueryService taskQueryService;
+
+    @GetMapping("/projects/{projectId}/tasks")
+    public Mono<List<TaskResponse>> getProjectTasks(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        return taskQueryService.getProjectTasks(userId, projectId);
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/paginated")
+    public Mono<PageResponse<TaskResponse>> getProjectTasksPaginated(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Boolean completed,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.id();
+        return taskQueryService.getProjectTasksPaginated(
+            userId, projectId, page, size, sortBy, sortDir, title, completed);
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanager.gateway.dto;
+
+import java.util.List;
+
+/**
+ * Page of results serialized with the same field names as Spring Data's
+ * {@code Page}, so clients of the servlet backend's paginated endpoints can
+ * read it unchanged.
+ */
+public record PageResponse<T>(
+        List<T> content,
+        int number,
+        int size,
+        int numberOfElements,
+        long totalElements,
+        int totalPages,
+        boolean first,
+        boolean last,
+        boolean empty) {
+
+    public static <T> PageResponse<T> of(List<T> content, int page, int size, long totalElements) {
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        return new PageResponse<>(
+                content,
+                page,
+                size,
+                content.size(),
+                totalElements,
+                totalPages,
+                page == 0,
+                page + 1 >= totalPages,
+                content.isEmpty());
+    }
+}
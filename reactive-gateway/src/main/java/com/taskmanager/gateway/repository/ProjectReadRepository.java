@@ -0,0 +1,93 @@
+package com.taskmanager.gateway.repository;
+
+import com.taskmanager.dto.ProgressResponse;
+import com.taskmanager.dto.ProjectResponse;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Project reads over R2DBC. Every query is scoped by {@code user_id}, so a
+ * project owned by someone else is indistinguishable from a missing one.
+ */
+@Repository
+public class ProjectReadRepository {
+
+    private static final String COLUMNS = "SELECT id, title, description FROM projects";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Flux<ProjectResponse> findByUserId(Long userId) {
+        return databaseClient.sql(COLUMNS + " WHERE user_id = :userId ORDER BY id")
+                .bind("userId", userId)
+                .map(ProjectReadRepository::toResponse)
+                .all();
+    }
+
+    /**
+     * @param orderBy a whitelisted ORDER BY clause, never raw user input
+     */
+    public Flux<ProjectResponse> findByUserId(Long userId, String orderBy, int limit, long offset) {
+        return databaseClient.sql(COLUMNS + " WHERE user_id = :userId ORDER BY " + orderBy
+                        + " LIMIT :limit OFFSET :offset")
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ProjectReadRepository::toResponse)
+                .all();
+    }
+
+    public Mono<Long> countByUserId(Long userId) {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM projects WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    public Mono<ProjectResponse> findByIdAndUserId(Long id, Long userId) {
+        return databaseClient.sql(COLUMNS + " WHERE id = :id AND user_id = :userId")
+                .bind("id", id)
+                .bind("userId", userId)
+                .map(ProjectReadRepository::toResponse)
+                .one();
+    }
+
+    public Mono<Boolean> existsByIdAndUserId(Long id, Long userId) {
+        return databaseClient.sql("SELECT 1 FROM projects WHERE id = :id AND user_id = :userId")
+                .bind("id", id)
+                .bind("userId", userId)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Counts total and completed tasks in one aggregate instead of loading
+     * the task collection. Empty if the project is missing or not owned.
+     */
+    public Mono<ProgressResponse> getProgress(Long projectId, Long userId) {
+        return databaseClient.sql("SELECT COUNT(t.id) AS total, COUNT(t.id) FILTER (WHERE t.completed) AS completed "
+                        + "FROM projects p LEFT JOIN tasks t ON t.project_id = p.id "
+                        + "WHERE p.id = :projectId AND p.user_id = :userId GROUP BY p.id")
+                .bind("projectId", projectId)
+                .bind("userId", userId)
+                .map(row -> {
+                    int total = row.get("total", Long.class).intValue();
+                    int completed = row.get("completed", Long.class).intValue();
+                    double percentage = total > 0 ? (double) completed / total * 100 : 0.0;
+                    return new ProgressResponse(total, completed, percentage);
+                })
+                .one();
+    }
+
+    private static ProjectResponse toResponse(Row row) {
+        return new ProjectResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class));
+    }
+}
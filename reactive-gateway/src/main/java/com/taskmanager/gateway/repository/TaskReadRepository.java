@@ -0,0 +1,109 @@
+package com.taskmanager.gateway.repository;
+
+import com.taskmanager.dto.TaskResponse;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Task reads over R2DBC. Queries join {@code projects} on {@code user_id} so
+ * they only ever return rows the caller owns.
+ */
+@Repository
+public class TaskReadRepository {
+
+    private static final String COLUMNS = "SELECT t.id, t.title, t.description, t.due_date, t.completed, t.project_id "
+            + "FROM tasks t JOIN projects p ON p.id = t.project_id";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Flux<TaskResponse> findByProjectId(Long userId, Long projectId) {
+        return databaseClient.sql(COLUMNS + " WHERE t.project_id = :projectId AND p.user_id = :userId ORDER BY t.id")
+                .bind("projectId", projectId)
+                .bind("userId", userId)
+                .map(TaskReadRepository::toResponse)
+                .all();
+    }
+
+    /**
+     * Same filters as the servlet search: case-insensitive title substring
+     * (blank is ignored, and {@code %} and {@code _} match literally) and
+     * completion status, each optional.
+     *
+     * @param orderBy a whitelisted ORDER BY clause, never raw user input
+     */
+    public Flux<TaskResponse> search(Long userId, Long projectId, String title, Boolean completed,
+                                     String orderBy, int limit, long offset) {
+        String sql = COLUMNS + where(title, completed) + " ORDER BY " + orderBy + " LIMIT :limit OFFSET :offset";
+        return bindFilters(databaseClient.sql(sql), userId, projectId, title, completed)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(TaskReadRepository::toResponse)
+                .all();
+    }
+
+    public Mono<Long> count(Long userId, Long projectId, String title, Boolean completed) {
+        String sql = "SELECT COUNT(*) AS total FROM tasks t JOIN projects p ON p.id = t.project_id"
+                + where(title, completed);
+        return bindFilters(databaseClient.sql(sql), userId, projectId, title, completed)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    private static String where(String title, Boolean completed) {
+        StringBuilder where = new StringBuilder(" WHERE t.project_id = :projectId AND p.user_id = :userId");
+        if (hasText(title)) {
+            where.append(" AND LOWER(t.title) LIKE :title ESCAPE '\\'");
+        }
+        if (completed != null) {
+            where.append(" AND t.completed = :completed");
+        }
+        return where.toString();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFilters(DatabaseClient.GenericExecuteSpec spec,
+                                                                 Long userId, Long projectId,
+                                                                 String title, Boolean completed) {
+        spec = spec.bind("projectId", projectId).bind("userId", userId);
+        if (hasText(title)) {
+            spec = spec.bind("title", containsPattern(title));
+        }
+        if (completed != null) {
+            spec = spec.bind("completed", completed);
+        }
+        return spec;
+    }
+
+    /**
+     * The LIKE pattern for a case-insensitive substring, escaped the same way
+     * as the servlet's {@code TaskSpecifications}.
+     */
+    static String containsPattern(String text) {
+        String escaped = text.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static TaskResponse toResponse(Row row) {
+        return new TaskResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("due_date", LocalDate.class),
+                Boolean.TRUE.equals(row.get("completed", Boolean.class)),
+                row.get("project_id", Long.class));
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanager.gateway.security;
+
+import com.taskmanager.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Authenticates a bearer access token the same way the backend's
+ * {@code JwtFilter} does: signature and expiry are
+ * checked by {@link JwtUtil}, revocation by {@link RevocationCache}, and the
+ * principal is built from the claims. Everything is in-memory CPU work, so it
+ * runs on the calling event-loop thread.
+ */
+@Component
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private RevocationCache revocationCache;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String token = (String) authentication.getCredentials();
+        return Mono.fromCallable(() -> {
+            Claims claims = jwtUtil.parseAccessToken(token);
+            if (revocationCache.isRevoked(claims.getId())) {
+                throw new BadCredentialsException("Access token has been revoked");
+            }
+            return (Authentication) new UsernamePasswordAuthenticationToken(
+                    jwtUtil.toPrincipal(claims), null, jwtUtil.extractAuthorities(claims));
+        }).onErrorMap(e -> e instanceof JwtException || e instanceof IllegalArgumentException,
+                e -> new BadCredentialsException("Invalid access token", e));
+    }
+}
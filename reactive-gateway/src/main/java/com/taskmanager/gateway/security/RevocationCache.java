@@ -0,0 +1,106 @@
+package com.taskmanager.gateway.security;
+
+import com.taskmanager.security.RevocationList;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Read-only mirror of the backend's token revocation list. Revocations are
+ * written by the backend; this node polls {@code revoked_tokens} over R2DBC on
+ * {@code revoked_at} and answers {@link #isRevoked} from the same
+ * {@link RevocationList} the backend keeps.
+ */
+@Component
+public class RevocationCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationCache.class);
+
+    private final DatabaseClient databaseClient;
+    private final RevocationList revocationList;
+    private final Duration refreshInterval;
+    private final Duration pollOverlap;
+    private final Duration rebuildInterval;
+    private Disposable schedule;
+
+    public RevocationCache(
+            DatabaseClient databaseClient,
+            @Value("${security.revocation.expected-entries:100000}") int expectedEntries,
+            @Value("${security.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${security.revocation.refresh-interval-ms:5000}") long refreshIntervalMs,
+            @Value("${security.revocation.poll-overlap-ms:30000}") long pollOverlapMs,
+            @Value("${security.revocation.rebuild-interval-ms:3600000}") long rebuildIntervalMs) {
+        this.databaseClient = databaseClient;
+        this.revocationList = new RevocationList(expectedEntries, falsePositiveRate);
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMs);
+        this.pollOverlap = Duration.ofMillis(pollOverlapMs);
+        this.rebuildInterval = Duration.ofMillis(rebuildIntervalMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        Disposable polling = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(e -> {
+                            log.warn("Failed to refresh token revocations: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+        Disposable rebuilding = Flux.interval(rebuildInterval, rebuildInterval)
+                .subscribe(tick -> rebuild());
+        schedule = Disposables.composite(polling, rebuilding);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+
+    /**
+     * @return true if the token with this id was revoked and has not expired
+     */
+    public boolean isRevoked(String jti) {
+        return revocationList.isRevoked(jti);
+    }
+
+    /**
+     * Pulls revocations recorded since the last poll. The window overlaps the
+     * previous one to tolerate clock skew and late commits on the backend.
+     */
+    Mono<Void> refresh() {
+        return databaseClient.sql("SELECT jti, expires_at, revoked_at FROM revoked_tokens "
+                        + "WHERE revoked_at > :since AND expires_at > :now")
+                .bind("since", revocationList.pollFrom(pollOverlap))
+                .bind("now", Instant.now())
+                .map((row, metadata) -> {
+                    revocationList.remember(row.get("jti", String.class),
+                            row.get("expires_at", Instant.class),
+                            row.get("revoked_at", Instant.class));
+                    return Boolean.TRUE;
+                })
+                .all()
+                .then();
+    }
+
+    /**
+     * Drops expired entries from memory. Deleting expired rows is left to the
+     * backend.
+     */
+    void rebuild() {
+        revocationList.rebuild(Instant.now());
+    }
+}
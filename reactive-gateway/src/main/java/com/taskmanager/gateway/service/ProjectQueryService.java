@@ -0,0 +1,51 @@
+package com.taskmanager.gateway.service;
+
+import com.taskmanager.dto.ProgressResponse;
+import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.gateway.dto.PageResponse;
+import com.taskmanager.gateway.repository.ProjectReadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Service
+public class ProjectQueryService {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title");
+
+    @Autowired
+    private ProjectReadRepository projectReadRepository;
+
+    public Flux<ProjectResponse> getUserProjects(Long userId) {
+        return projectReadRepository.findByUserId(userId);
+    }
+
+    /**
+     * Fetches the page and the total count concurrently on separate
+     * connections, so the response costs one round trip instead of two.
+     */
+    public Mono<PageResponse<ProjectResponse>> getUserProjectsPaginated(
+            Long userId, int page, int size, String sortBy, String sortDir) {
+        SortOrder.checkPage(page, size);
+        String orderBy = SortOrder.toOrderBy(SORT_COLUMNS, "id", sortBy, sortDir);
+        return Mono.zip(
+                projectReadRepository.findByUserId(userId, orderBy, size, (long) page * size).collectList(),
+                projectReadRepository.countByUserId(userId))
+                .map(result -> PageResponse.of(result.getT1(), page, size, result.getT2()));
+    }
+
+    public Mono<ProjectResponse> getProjectById(Long userId, Long projectId) {
+        return projectReadRepository.findByIdAndUserId(projectId, userId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Project not found or access denied")));
+    }
+
+    public Mono<ProgressResponse> getProjectProgress(Long userId, Long projectId) {
+        return projectReadRepository.getProgress(projectId, userId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Project not found or access denied")));
+    }
+}
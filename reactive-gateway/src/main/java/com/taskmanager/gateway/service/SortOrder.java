@@ -0,0 +1,35 @@
+package com.taskmanager.gateway.service;
+
+import java.util.Map;
+
+/**
+ * Maps the {@code sortBy}/{@code sortDir} request parameters onto a SQL
+ * ORDER BY clause. Only whitelisted properties are accepted because the
+ * clause is concatenated into the query; the id is appended as a tiebreaker
+ * so offset paging is stable.
+ */
+final class SortOrder {
+
+    private SortOrder() {
+    }
+
+    static String toOrderBy(Map<String, String> columns, String idColumn, String sortBy, String sortDir) {
+        String column = columns.get(sortBy);
+        if (column == null) {
+            throw new IllegalArgumentException("Unsupported sort property: " + sortBy);
+        }
+        String direction = sortDir.equalsIgnoreCase("desc") ? "DESC" : "ASC";
+        return column.equals(idColumn)
+                ? column + " " + direction
+                : column + " " + direction + ", " + idColumn + " " + direction;
+    }
+
+    static void checkPage(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be less than zero");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+    }
+}
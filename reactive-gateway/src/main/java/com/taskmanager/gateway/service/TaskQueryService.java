@@ -0,0 +1,56 @@
+package com.taskmanager.gateway.service;
+
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.gateway.dto.PageResponse;
+import com.taskmanager.gateway.repository.ProjectReadRepository;
+import com.taskmanager.gateway.repository.TaskReadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TaskQueryService {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "t.id",
+            "title", "t.title",
+            "dueDate", "t.due_date",
+            "completed", "t.completed");
+
+    @Autowired
+    private ProjectReadRepository projectReadRepository;
+
+    @Autowired
+    private TaskReadRepository taskReadRepository;
+
+    /**
+     * The ownership check runs alongside the task query; the task query is
+     * itself scoped to the caller, so nothing leaks when the check fails.
+     */
+    public Mono<List<TaskResponse>> getProjectTasks(Long userId, Long projectId) {
+        return Mono.zip(
+                projectReadRepository.existsByIdAndUserId(projectId, userId),
+                taskReadRepository.findByProjectId(userId, projectId).collectList())
+                .flatMap(result -> result.getT1()
+                        ? Mono.just(result.getT2())
+                        : Mono.error(new RuntimeException("Project not found or access denied")));
+    }
+
+    public Mono<PageResponse<TaskResponse>> getProjectTasksPaginated(
+            Long userId, Long projectId, int page, int size, String sortBy, String sortDir,
+            String title, Boolean completed) {
+        SortOrder.checkPage(page, size);
+        String orderBy = SortOrder.toOrderBy(SORT_COLUMNS, "t.id", sortBy, sortDir);
+        return Mono.zip(
+                projectReadRepository.existsByIdAndUserId(projectId, userId),
+                taskReadRepository.search(userId, projectId, title, completed, orderBy, size, (long) page * size)
+                        .collectList(),
+                taskReadRepository.count(userId, projectId, title, completed))
+                .flatMap(result -> result.getT1()
+                        ? Mono.just(PageResponse.of(result.getT2(), page, size, result.getT3()))
+                        : Mono.error(new RuntimeException("Project not found or access denied")));
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.gateway.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskReadRepositoryTest {
+
+    @Test
+    void containsPattern_ShouldEscapeWildcardsSoTheyMatchLiterally() {
+        // When
+        String pattern = TaskReadRepository.containsPattern(" 100%_Done\\ ");
+
+        // Then
+        assertEquals("%100\\%\\_done\\\\%", pattern);
+    }
+
+    @Test
+    void containsPattern_ShouldLowerCaseIndependentlyOfDefaultLocale() {
+        // Given
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            // When
+            String pattern = TaskReadRepository.containsPattern("TITLE");
+
+            // Then
+            assertEquals("%title%", pattern);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
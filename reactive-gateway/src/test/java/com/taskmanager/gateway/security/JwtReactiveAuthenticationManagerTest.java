@@ -0,0 +1,94 @@
+package com.taskmanager.gateway.security;
+
+import com.taskmanager.security.AuthenticatedUser;
+import com.taskmanager.security.JwtKeyProvider;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtReactiveAuthenticationManagerTest {
+
+    @TempDir
+    Path keyDirectory;
+
+    @Mock
+    private RevocationCache revocationCache;
+
+    @InjectMocks
+    private JwtReactiveAuthenticationManager authenticationManager;
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyProvider keyProvider = new JwtKeyProvider(
+                "HS256", "mySecretKey123456789012345678901234567890", keyDirectory.toString(), "key-1", false, 0);
+        keyProvider.load();
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "keyProvider", keyProvider);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", 900000L);
+        jwtUtil.init();
+        ReflectionTestUtils.setField(authenticationManager, "jwtUtil", jwtUtil);
+    }
+
+    @Test
+    void authenticate_WithValidToken_ShouldBuildPrincipalFromClaims() {
+        // Given
+        String token = jwtUtil.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER"));
+        when(revocationCache.isRevoked(anyString())).thenReturn(false);
+
+        // When & Then
+        StepVerifier.create(authenticationManager.authenticate(bearer(token)))
+                .assertNext(authentication -> {
+                    assertTrue(authentication.isAuthenticated());
+                    assertEquals(new AuthenticatedUser(7L, "test@example.com"), authentication.getPrincipal());
+                    assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void authenticate_WithRevokedToken_ShouldFail() {
+        // Given
+        String token = jwtUtil.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER"));
+        when(revocationCache.isRevoked(anyString())).thenReturn(true);
+
+        // When & Then
+        StepVerifier.create(authenticationManager.authenticate(bearer(token)))
+                .expectError(BadCredentialsException.class)
+                .verify();
+    }
+
+    @Test
+    void authenticate_WithTamperedToken_ShouldFail() {
+        // Given
+        String token = jwtUtil.generateAccessToken(7L, "test@example.com", List.of("ROLE_USER"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When & Then
+        StepVerifier.create(authenticationManager.authenticate(bearer(tampered)))
+                .expectError(BadCredentialsException.class)
+                .verify();
+    }
+
+    private static UsernamePasswordAuthenticationToken bearer(String token) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(token, token);
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanager.gateway.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortOrderTest {
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "id", "t.id",
+            "dueDate", "t.due_date");
+
+    @Test
+    void toOrderBy_WithWhitelistedProperty_ShouldAppendIdTiebreaker() {
+        // When
+        String orderBy = SortOrder.toOrderBy(COLUMNS, "t.id", "dueDate", "desc");
+
+        // Then
+        assertEquals("t.due_date DESC, t.id DESC", orderBy);
+    }
+
+    @Test
+    void toOrderBy_ById_ShouldNotRepeatColumn() {
+        // When
+        String orderBy = SortOrder.toOrderBy(COLUMNS, "t.id", "id", "anything");
+
+        // Then
+        assertEquals("t.id ASC", orderBy);
+    }
+
+    @Test
+    void toOrderBy_WithUnknownProperty_ShouldReject() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> SortOrder.toOrderBy(COLUMNS, "t.id", "title; DROP TABLE tasks", "asc"));
+    }
+
+    @Test
+    void checkPage_WithInvalidBounds_ShouldReject() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> SortOrder.checkPage(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> SortOrder.checkPage(0, 0));
+        assertDoesNotThrow(() -> SortOrder.checkPage(0, 1));
+    }
+}